@@ -0,0 +1,101 @@
+package com.example.application.benchmark;
+
+import com.example.application.accessors.PropertyAccessor;
+import com.example.application.data.entity.SamplePerson;
+import com.example.application.data.entity.SamplePersonAccessors;
+import com.vaadin.flow.data.binder.BeanPropertySet;
+import com.vaadin.flow.data.binder.PropertySet;
+import com.vaadin.flow.function.ValueProvider;
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing grid rows to JSON like the grid's column renderers do, the
+ * score is rows per second. Compares the getters of Vaadin's bean
+ * introspection, used by {@code new Grid<>(SamplePerson.class)} and
+ * {@code bindInstanceFields}, with the generated SamplePersonAccessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessorBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private static final List<String> COLUMNS = List.of("id", "firstName", "lastName", "email", "phone",
+            "dateOfBirth", "occupation", "role", "important");
+
+    private final List<SamplePerson> rows = new ArrayList<>(ROWS);
+    private final List<ValueProvider<SamplePerson, ?>> introspected = new ArrayList<>();
+    private final List<PropertyAccessor<SamplePerson, ?>> generated = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < ROWS; i++) {
+            SamplePerson person = new SamplePerson();
+            person.setId((long) i);
+            person.setFirstName("Eula");
+            person.setLastName("Lane");
+            person.setEmail("eula.lane" + i + "@jigrormo.ye");
+            person.setPhone("(762) 526-5961");
+            person.setDateOfBirth(LocalDate.of(1953, 5, 28));
+            person.setOccupation("Insurance Clerk");
+            person.setRole("Worker");
+            person.setImportant(i % 10 == 0);
+            rows.add(person);
+        }
+        PropertySet<SamplePerson> properties = BeanPropertySet.get(SamplePerson.class);
+        for (String column : COLUMNS) {
+            introspected.add(properties.getProperty(column).orElseThrow().getGetter());
+            generated.add(SamplePersonAccessors.get(column));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public JsonArray introspected() {
+        JsonArray json = Json.createArray();
+        for (SamplePerson row : rows) {
+            JsonObject item = Json.createObject();
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                item.put(COLUMNS.get(i), String.valueOf(introspected.get(i).apply(row)));
+            }
+            json.set(json.length(), item);
+        }
+        return json;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public JsonArray generated() {
+        JsonArray json = Json.createArray();
+        for (SamplePerson row : rows) {
+            JsonObject item = Json.createObject();
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                item.put(COLUMNS.get(i), String.valueOf(generated.get(i).get(row)));
+            }
+            json.set(json.length(), item);
+        }
+        return json;
+    }
+}
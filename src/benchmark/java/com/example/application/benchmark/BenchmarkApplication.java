@@ -0,0 +1,46 @@
+package com.example.application.benchmark;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the data layer (JPA, H2 and the services) and the Spring beans of
+ * the views, without the Vaadin servlet and the web server, for
+ * benchmarking.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(excludeName = "com.vaadin.flow.spring.SpringBootAutoConfiguration")
+@ComponentScan({"com.example.application.data", "com.example.application.views"})
+@EntityScan("com.example.application.data")
+@EnableJpaRepositories("com.example.application.data")
+public class BenchmarkApplication {
+
+    /**
+     * Starts the data layer with the given number of generated persons and
+     * additional properties. They are passed as command line arguments, as
+     * default properties would lose to application-large-dataset.properties.
+     */
+    static ConfigurableApplicationContext start(long rows, String... properties) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> args = new ArrayList<>(List.of(
+                "--generator.rows=" + rows,
+                "--logging.level.root=warn",
+                "--logging.level.com.example.application=info"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("large-dataset")
+                .run(args.toArray(String[]::new));
+    }
+}
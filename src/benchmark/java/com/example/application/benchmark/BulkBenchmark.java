@@ -0,0 +1,112 @@
+package com.example.application.benchmark;
+
+import com.example.application.data.entity.SamplePerson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Bulk actions on a selection of persons: the set-based updates of
+ * SamplePersonService against loading and saving (or deleting) each
+ * selected person.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkBenchmark {
+
+    private static final long FIRST_GENERATED_ID = 1000;
+
+    /**
+     * A random range of the generated persons.
+     */
+    @State(Scope.Benchmark)
+    public static class Selection {
+
+        @Param({"100", "5000"})
+        public int selected;
+
+        private List<Long> ids;
+        private boolean important;
+
+        @Setup(Level.Invocation)
+        public void selectPersons(DataState data) {
+            // randomId() is below the largest id, select the persons before it
+            long last = data.randomId();
+            ids = LongStream.range(Math.max(FIRST_GENERATED_ID, last - selected), last)
+                    .boxed()
+                    .toList();
+            important = !important;
+        }
+    }
+
+    /**
+     * New persons for each delete, so the dataset doesn't shrink.
+     */
+    @State(Scope.Benchmark)
+    public static class Deletable {
+
+        private List<Long> ids;
+
+        @Setup(Level.Invocation)
+        public void createPersons(DataState data, Selection selection) {
+            List<SamplePerson> persons = new ArrayList<>(selection.selected);
+            for (int i = 0; i < selection.selected; i++) {
+                SamplePerson person = new SamplePerson();
+                person.setFirstName("Bulk");
+                person.setLastName("Delete");
+                person.setEmail("bulk.delete" + i + "@example.com");
+                person.setDateOfBirth(LocalDate.of(1980, 1, 1));
+                persons.add(person);
+            }
+            ids = data.repository.saveAll(persons).stream()
+                    .map(SamplePerson::getId)
+                    .toList();
+        }
+    }
+
+    @Benchmark
+    public int setImportantBulk(DataState data, Selection selection) {
+        return data.service.setImportant(selection.ids, selection.important);
+    }
+
+    @Benchmark
+    public int setImportantPerEntity(DataState data, Selection selection) {
+        int updated = 0;
+        for (Long id : selection.ids) {
+            SamplePerson person = data.service.get(id).orElseThrow();
+            person.setImportant(selection.important);
+            data.service.update(person);
+            updated++;
+        }
+        return updated;
+    }
+
+    @Benchmark
+    public int deleteBulk(DataState data, Deletable deletable) {
+        return data.service.deleteAll(deletable.ids);
+    }
+
+    @Benchmark
+    public int deletePerEntity(DataState data, Deletable deletable) {
+        deletable.ids.forEach(data.service::delete);
+        return deletable.ids.size();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.application.benchmark;
+
+import com.example.application.data.service.SamplePersonRepository;
+import com.example.application.data.service.SamplePersonService;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The data layer with a generated dataset of the given size.
+ */
+@State(Scope.Benchmark)
+public class DataState {
+
+    // ids of generated persons start after the demo data
+    private static final long FIRST_GENERATED_ID = 1000;
+
+    @Param({"100000", "1000000"})
+    public long rows;
+
+    ConfigurableApplicationContext context;
+    SamplePersonService service;
+    SamplePersonRepository repository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(rows);
+        service = context.getBean(SamplePersonService.class);
+        repository = context.getBean(SamplePersonRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    long randomId() {
+        // demo data takes the first 100 rows
+        return FIRST_GENERATED_ID + ThreadLocalRandom.current().nextLong(rows - 100);
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.application.benchmark;
+
+import com.example.application.data.service.ImportProgress;
+import com.example.application.data.service.PersonImportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV import throughput, the score is imported rows per second. The target
+ * is at least 20 000 rows/s on a laptop with the embedded H2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImportBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private PersonImportService importService;
+    private String csv;
+
+    @Setup
+    public void setUp(DataState data) {
+        importService = data.getBean(PersonImportService.class);
+        StringBuilder builder = new StringBuilder("firstName,lastName,email,phone,dateOfBirth,occupation,role,important\n");
+        for (int i = 0; i < ROWS; i++) {
+            builder.append("Eula,Lane,eula.lane").append(i).append("@jigrormo.ye,(762) 526-5961,1953-05-28,")
+                    .append("Insurance Clerk,Worker,").append(i % 10 == 0).append('\n');
+        }
+        csv = builder.toString();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public ImportProgress importCsv() throws IOException {
+        return importService.importCsv(new StringReader(csv), progress -> {
+        });
+    }
+}
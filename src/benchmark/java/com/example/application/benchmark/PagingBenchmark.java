@@ -0,0 +1,89 @@
+package com.example.application.benchmark;
+
+import com.example.application.data.entity.SamplePerson;
+import com.example.application.data.service.KeysetPager;
+import com.example.application.data.service.KeysetPosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading one grid page at different depths of the table, with offset
+ * paging (SamplePersonService.stream) and with keyset paging. The setup
+ * checks that both return the same rows, e.g. that a descending keyset page
+ * doesn't skip the nulls sorted last.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PagingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    /** How deep into the table the page is, 0 = first page. */
+    @Param({"0", "0.5", "0.99"})
+    public double depth;
+
+    @Param({"id", "lastName", "dateOfBirth"})
+    public String sortProperty;
+
+    @Param({"ASC", "DESC"})
+    public Sort.Direction direction;
+
+    private Sort sort;
+    private int page;
+    private KeysetPosition position;
+
+    @Setup
+    public void setUp(DataState data) {
+        // the generated persons have all values, but the columns are
+        // nullable and the nulls are where keyset paging can go wrong
+        data.getBean(JdbcTemplate.class).update(
+                "update sample_person set last_name = null, date_of_birth = null where mod(id, 100) = 0");
+        sort = KeysetPager.withIdTieBreaker(Sort.by(direction, sortProperty));
+        page = (int) (data.rows * depth / PAGE_SIZE);
+        if (page > 0) {
+            // the last row of the previous page, as the grid's pager would remember it
+            SamplePerson previous = data.repository
+                    .findAllBy(PageRequest.of(page * PAGE_SIZE - 1, 1, sort)).get(0);
+            var bean = new BeanWrapperImpl(previous);
+            position = new KeysetPosition(sort.stream()
+                    .map(order -> bean.getPropertyValue(order.getProperty()))
+                    .toList());
+        }
+        List<Long> offsetIds = offsetPage(data).stream().map(SamplePerson::getId).toList();
+        List<Long> keysetIds = keysetPage(data).stream().map(SamplePerson::getId).toList();
+        if (!offsetIds.equals(keysetIds)) {
+            throw new IllegalStateException("Keyset page differs from the offset page: " + keysetIds
+                    + " instead of " + offsetIds);
+        }
+    }
+
+    @Benchmark
+    public List<SamplePerson> offsetPage(DataState data) {
+        return data.service.stream(PageRequest.of(page, PAGE_SIZE, sort)).toList();
+    }
+
+    @Benchmark
+    public List<SamplePerson> keysetPage(DataState data) {
+        return data.repository.findRows(null, null, position, 0, sort, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.application.benchmark;
+
+import com.example.application.data.entity.SamplePerson;
+import com.example.application.data.service.KeysetPager;
+import com.example.application.data.service.PersonReadModel;
+import com.example.application.data.service.SamplePersonFilter;
+import com.example.application.data.service.SamplePersonRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grid pages and counts from the in-memory PersonReadModel against the
+ * database queries of the grid (an offset jump, as when dragging the
+ * scrollbar, and COUNT). Sequential scrolling with keyset paging is in
+ * PagingBenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReadModelBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private static final Set<String> GRID_COLUMNS = Set.of("firstName", "lastName", "email", "phone",
+            "dateOfBirth", "occupation", "role", "important");
+
+    @Param({"100000", "1000000"})
+    public long rows;
+
+    /** How deep into the result the page is, 0 = first page. */
+    @Param({"0", "0.5"})
+    public double depth;
+
+    @Param({"lastName", "dateOfBirth"})
+    public String sortProperty;
+
+    @Param({"none", "lastName", "important"})
+    public String filtered;
+
+    private ConfigurableApplicationContext context;
+    private SamplePersonRepository repository;
+    private PersonReadModel readModel;
+
+    private SamplePersonFilter filter;
+    private PageRequest page;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(rows, "grid.read-model=true");
+        repository = context.getBean(SamplePersonRepository.class);
+        // loaded when the application is ready
+        readModel = context.getBean(PersonReadModel.class);
+
+        filter = new SamplePersonFilter();
+        switch (filtered) {
+            case "lastName" -> filter.setLastName("B");
+            case "important" -> filter.setImportant(true);
+            default -> {
+            }
+        }
+        int count = readModel.count(filter);
+        int offset = (int) (count * depth) / PAGE_SIZE * PAGE_SIZE;
+        page = PageRequest.of(offset / PAGE_SIZE, PAGE_SIZE,
+                KeysetPager.withIdTieBreaker(Sort.by(sortProperty)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<SamplePerson> readModelPage() {
+        return readModel.list(filter, page);
+    }
+
+    @Benchmark
+    public List<SamplePerson> databasePage() {
+        return repository.findRows(filter.toSpecification(), GRID_COLUMNS, null, page.getOffset(),
+                page.getSort(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public int readModelCount() {
+        return readModel.count(filter);
+    }
+
+    @Benchmark
+    public long databaseCount() {
+        return repository.count(filter.toSpecification());
+    }
+}
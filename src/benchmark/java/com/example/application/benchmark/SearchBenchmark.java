@@ -0,0 +1,46 @@
+package com.example.application.benchmark;
+
+import com.example.application.data.service.PersonSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead queries against the trigram index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SearchBenchmark {
+
+    // word start, common substring, selective email and phone fragments
+    @Param({"br", "lane", "jacobs123@", "555-12"})
+    public String query;
+
+    private PersonSearchIndex index;
+
+    @Setup
+    public void setUp(DataState data) {
+        // built when the application is ready
+        index = data.getBean(PersonSearchIndex.class);
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(query, 500);
+    }
+}
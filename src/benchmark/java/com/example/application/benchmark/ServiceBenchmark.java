@@ -0,0 +1,46 @@
+package com.example.application.benchmark;
+
+import com.example.application.data.entity.SamplePerson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The single row operations and counting of SamplePersonService.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    @Benchmark
+    public Optional<SamplePerson> get(DataState data) {
+        return data.service.get(data.randomId());
+    }
+
+    @Benchmark
+    public SamplePerson update(DataState data) {
+        SamplePerson person = data.service.get(data.randomId()).orElseThrow();
+        person.setImportant(!person.isImportant());
+        return data.service.update(person);
+    }
+
+    @Benchmark
+    public int count(DataState data) {
+        return data.service.count();
+    }
+
+    @Benchmark
+    public long countUncached(DataState data) {
+        return data.repository.count();
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.application.benchmark;
+
+import com.example.application.data.entity.SamplePerson;
+import com.example.application.views.masterdetail.CheckedIcon;
+import com.example.application.views.masterdetail.MasterDetailView;
+import com.example.application.views.masterdetail.UncheckedIcon;
+import com.github.mvysny.kaributesting.v10.ButtonKt;
+import com.github.mvysny.kaributesting.v10.GridKt;
+import com.github.mvysny.kaributesting.v10.HasValueUtilsKt;
+import com.github.mvysny.kaributesting.v10.LocatorJ;
+import com.github.mvysny.kaributesting.v10.MockVaadin;
+import com.github.mvysny.kaributesting.v10.Routes;
+import com.github.mvysny.kaributesting.v10.spring.MockSpringServlet;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Opens thousands of MasterDetailView sessions in this JVM without a
+ * browser (using Karibu Testing) and reports the retained heap per session
+ * and the server side latency of typical user actions.
+ * <p>
+ * The heap is also measured with the first page of each grid rendered,
+ * once with the LitRenderer of the important column and once with the
+ * Icon components it used to be rendered with, to show the difference.
+ * <p>
+ * Configure with the system properties harness.sessions (default 1000) and
+ * harness.rows (default 100000). The summary is printed and written to
+ * target/load-harness-result.json.
+ */
+@SuppressWarnings("unchecked")
+public class SessionLoadHarness {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final Map<String, List<Long>> latencies = new LinkedHashMap<>();
+    private final Random random = new Random(42);
+
+    public static void main(String[] args) throws Exception {
+        int sessions = Integer.getInteger("harness.sessions", 1000);
+        long rows = Long.getLong("harness.rows", 100_000);
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start(rows)) {
+            new SessionLoadHarness().run(context, sessions, rows);
+        }
+        System.exit(0);
+    }
+
+    private void run(ConfigurableApplicationContext context, int sessions, long rows) throws Exception {
+        Routes routes = new Routes().autoDiscoverViews("com.example.application.views");
+        MockSpringServlet servlet = new MockSpringServlet(routes, context, UI::new);
+
+        // warm up class loading and JIT, so they don't count as session cost
+        for (int i = 0; i < 50; i++) {
+            drive(openSession(servlet), rows);
+        }
+        latencies.clear();
+
+        long heapBefore = usedHeap();
+        List<UI> uis = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            uis.add(openSession(servlet));
+        }
+        long heapAfterOpen = usedHeap();
+
+        for (UI ui : uis) {
+            drive(ui, rows);
+        }
+        long heapAfterUse = usedHeap();
+
+        uis.forEach(SessionLoadHarness::renderFirstPage);
+        long heapWithLitRenderer = usedHeap();
+        for (UI ui : uis) {
+            activate(ui);
+            // the column as it was before ImportantRenderer
+            Grid<SamplePerson> grid = LocatorJ._get(Grid.class);
+            grid.removeColumnByKey("important");
+            grid.addColumn(new ComponentRenderer<Icon, SamplePerson>(
+                    person -> person.isImportant() ? new CheckedIcon() : new UncheckedIcon()))
+                    .setKey("important");
+            grid.getDataCommunicator().reset();
+            renderFirstPage(ui);
+        }
+        long heapWithComponentRenderer = usedHeap();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sessions", sessions);
+        result.put("rows", rows);
+        result.put("bytesPerOpenedSession", (heapAfterOpen - heapBefore) / sessions);
+        result.put("bytesPerUsedSession", (heapAfterUse - heapBefore) / sessions);
+        result.put("bytesPerRenderedSession", (heapWithLitRenderer - heapBefore) / sessions);
+        result.put("bytesPerRenderedSessionWithIconComponents", (heapWithComponentRenderer - heapBefore) / sessions);
+        latencies.forEach((action, nanos) -> result.put(action, percentiles(nanos)));
+
+        String json = toJson(result);
+        System.out.println(json);
+        Files.writeString(Path.of("target", "load-harness-result.json"), json);
+    }
+
+    private UI openSession(MockSpringServlet servlet) {
+        long start = System.nanoTime();
+        MockVaadin.setup(UI::new, servlet);
+        UI.getCurrent().navigate(MasterDetailView.class);
+        MockVaadin.clientRoundtrip();
+        record("open", start);
+        return UI.getCurrent();
+    }
+
+    /**
+     * Scrolls, selects a row, edits it and saves, like a user would.
+     */
+    private void drive(UI ui, long rows) {
+        activate(ui);
+        Grid<SamplePerson> grid = LocatorJ._get(Grid.class);
+
+        long start = System.nanoTime();
+        int offset = random.nextInt((int) Math.max(1, rows - PAGE_SIZE));
+        GridKt._fetch(grid, offset, PAGE_SIZE);
+        MockVaadin.clientRoundtrip();
+        record("scroll", start);
+
+        start = System.nanoTime();
+        GridKt._selectRow(grid, random.nextInt(PAGE_SIZE));
+        MockVaadin.clientRoundtrip();
+        record("select", start);
+
+        start = System.nanoTime();
+        TextField occupation = LocatorJ._get(TextField.class, spec -> spec.withCaption("Occupation"));
+        occupation.setValue("Load Tester " + random.nextInt(1000));
+        HasValueUtilsKt._fireValueChange(occupation, true);
+        MockVaadin.clientRoundtrip();
+        record("edit", start);
+
+        start = System.nanoTime();
+        Button save = LocatorJ._get(Button.class, spec -> spec.withText("Save"));
+        if (save.isEnabled()) {
+            ButtonKt._click(save);
+            MockVaadin.clientRoundtrip();
+            record("save", start);
+        }
+    }
+
+    private static void renderFirstPage(UI ui) {
+        activate(ui);
+        LocatorJ._get(Grid.class).getDataCommunicator().setRequestedRange(0, PAGE_SIZE);
+        MockVaadin.clientRoundtrip();
+    }
+
+    private static void activate(UI ui) {
+        VaadinSession session = ui.getSession();
+        VaadinService.setCurrent(session.getService());
+        VaadinSession.setCurrent(session);
+        UI.setCurrent(ui);
+    }
+
+    private void record(String action, long startNanos) {
+        latencies.computeIfAbsent(action, a -> new ArrayList<>()).add(System.nanoTime() - startNanos);
+    }
+
+    private static Map<String, Object> percentiles(List<Long> nanos) {
+        long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", sorted.length);
+        for (double p : new double[] {0.5, 0.9, 0.99}) {
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            result.put("p" + Math.round(p * 100) + "Millis", sorted[Math.max(index, 0)] / 1_000_000.0);
+        }
+        result.put("maxMillis", sorted[sorted.length - 1] / 1_000_000.0);
+        return result;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    static String toJson(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return map.entrySet().stream()
+                    .map(e -> "\"" + e.getKey() + "\": " + toJson(e.getValue()))
+                    .collect(Collectors.joining(", ", "{", "}"));
+        }
+        return String.valueOf(value);
+    }
+}
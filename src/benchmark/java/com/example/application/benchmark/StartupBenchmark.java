@@ -0,0 +1,107 @@
+package com.example.application.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the time from starting the JVM to the first successful request
+ * to the main view, for the production build with and without the
+ * fast-startup profile's class data sharing archive and lazy initialization.
+ * Build with {@code ./mvnw -Pproduction,fast-startup package} first.
+ * <p>
+ * Configure with the system properties startup.runs (default 5),
+ * startup.fat-jar, startup.cds-jar and startup.archive. The summary is
+ * printed and written to target/startup-result.json.
+ */
+public class StartupBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        String fatJar = System.getProperty("startup.fat-jar");
+        String cdsJar = System.getProperty("startup.cds-jar");
+        String archive = System.getProperty("startup.archive");
+
+        Map<String, List<String>> configurations = new LinkedHashMap<>();
+        configurations.put("default", List.of("-jar", fatJar));
+        configurations.put("lazy", List.of("-Dspring.profiles.active=fast-startup", "-jar", cdsJar));
+        configurations.put("lazy-cds", List.of("-XX:SharedArchiveFile=" + archive,
+                "-Dspring.profiles.active=fast-startup", "-jar", cdsJar));
+
+        StartupBenchmark benchmark = new StartupBenchmark();
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> configuration : configurations.entrySet()) {
+            List<Long> millis = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                millis.add(benchmark.timeToFirstRequest(configuration.getValue()));
+            }
+            millis.sort(null);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("min_ms", millis.get(0));
+            summary.put("median_ms", millis.get(millis.size() / 2));
+            summary.put("max_ms", millis.get(millis.size() - 1));
+            result.put(configuration.getKey(), summary);
+        }
+
+        String json = SessionLoadHarness.toJson(result);
+        System.out.println(json);
+        Files.writeString(Path.of("target", "startup-result.json"), json);
+    }
+
+    private long timeToFirstRequest(List<String> arguments) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Dserver.port=" + port);
+        command.addAll(arguments);
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File("target/startup-benchmark.log"))
+                .start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/")).build();
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("The application exited, see target/startup-benchmark.log");
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (ConnectException e) {
+                    // not listening yet
+                }
+                Thread.sleep(20);
+            }
+            throw new IllegalStateException("No response in " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
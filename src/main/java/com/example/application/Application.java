@@ -1,14 +1,14 @@
 package com.example.application;
 
-import com.example.application.data.service.SamplePersonRepository;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 import com.vaadin.flow.theme.Theme;
+import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
-import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
 import org.springframework.context.annotation.Bean;
 
 /**
@@ -19,6 +19,8 @@ import org.springframework.context.annotation.Bean;
  *
  */
 @SpringBootApplication
+// Push changes made by other users, see PersonChangeBroadcaster
+@Push
 @Theme(value = "myapp")
 @NpmPackage(value = "line-awesome", version = "1.3.0")
 @NpmPackage(value = "@vaadin-component-factory/vcf-nav", version = "1.0.6")
@@ -29,17 +31,9 @@ public class Application implements AppShellConfigurator {
     }
 
     @Bean
-    SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(DataSource dataSource,
-            SqlInitializationProperties properties, SamplePersonRepository repository) {
-        // This bean ensures the database is only initialized when empty
-        return new SqlDataSourceScriptDatabaseInitializer(dataSource, properties) {
-            @Override
-            public boolean initializeDatabase() {
-                if (repository.count() == 0L) {
-                    return super.initializeDatabase();
-                }
-                return false;
-            }
-        };
+    static LazyInitializationExcludeFilter eagerDataLayer() {
+        // With lazy initialization (the fast-startup profile), still migrate
+        // and validate the database at startup, not on the first request
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, EntityManagerFactory.class);
     }
 }
@@ -0,0 +1,48 @@
+package com.example.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Training run for the class data sharing archive of the fast-startup
+ * profile: once the application has started, requests the main view so that
+ * the classes of the first request are loaded too, and exits. The JVM then
+ * writes the classes it has loaded to the archive
+ * ({@code -XX:ArchiveClassesAtExit}).
+ */
+@Component
+@ConditionalOnProperty("startup.training")
+public class StartupTrainingRun implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTrainingRun.class);
+
+    private final ApplicationContext context;
+    private final int port;
+
+    public StartupTrainingRun(ApplicationContext context, @Value("${local.server.port}") int port) {
+        this.context = context;
+        this.port = port;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException, InterruptedException {
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/")).build(),
+                HttpResponse.BodyHandlers.discarding());
+        logger.info("Training request returned {}, exiting", response.statusCode());
+        System.exit(SpringApplication.exit(context));
+    }
+}
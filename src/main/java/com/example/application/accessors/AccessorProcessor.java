@@ -0,0 +1,185 @@
+package com.example.application.accessors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the accessor classes for {@link GenerateAccessors}. The processor
+ * is compiled before the rest of the application, see the compiler plugin
+ * executions in pom.xml.
+ * <p>
+ * A property is a getter ({@code getX()} or {@code isX()} for booleans) and
+ * a setter ({@code setX(value)}) of the same type. Properties of superclasses
+ * come first.
+ */
+@SupportedAnnotationTypes("com.example.application.accessors.GenerateAccessors")
+@SupportedSourceVersion(SourceVersion.RELEASE_17)
+public class AccessorProcessor extends AbstractProcessor {
+
+    private record Property(String name, String getter, String setter, TypeMirror type) {
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateAccessors.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "@GenerateAccessors is only supported on classes", element);
+                continue;
+            }
+            TypeElement bean = (TypeElement) element;
+            try {
+                write(bean, findProperties(bean));
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Could not write the accessors: " + e.getMessage(), element);
+            }
+        }
+        return true;
+    }
+
+    private List<Property> findProperties(TypeElement bean) {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement type = bean; type != null; type = superclass(type)) {
+            hierarchy.push(type);
+        }
+
+        Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+        for (TypeElement type : hierarchy) {
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (!method.getModifiers().contains(Modifier.PUBLIC)
+                        || method.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String name = method.getSimpleName().toString();
+                int parameters = method.getParameters().size();
+                TypeKind returnType = method.getReturnType().getKind();
+                if (name.startsWith("get") && name.length() > 3 && parameters == 0 && returnType != TypeKind.VOID) {
+                    getters.put(decapitalize(name.substring(3)), method);
+                } else if (name.startsWith("is") && name.length() > 2 && parameters == 0
+                        && returnType == TypeKind.BOOLEAN) {
+                    getters.put(decapitalize(name.substring(2)), method);
+                } else if (name.startsWith("set") && name.length() > 3 && parameters == 1
+                        && returnType == TypeKind.VOID) {
+                    setters.put(decapitalize(name.substring(3)), method);
+                }
+            }
+        }
+
+        List<Property> properties = new ArrayList<>();
+        getters.forEach((name, getter) -> {
+            ExecutableElement setter = setters.get(name);
+            if (setter != null && processingEnv.getTypeUtils().isSameType(getter.getReturnType(),
+                    setter.getParameters().get(0).asType())) {
+                properties.add(new Property(name, getter.getSimpleName().toString(),
+                        setter.getSimpleName().toString(), getter.getReturnType()));
+            }
+        });
+        return properties;
+    }
+
+    private void write(TypeElement bean, List<Property> properties) throws IOException {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(bean);
+        String packageName = packageElement.getQualifiedName().toString();
+        String beanName = bean.getSimpleName().toString();
+        String className = beanName + "Accessors";
+        String accessorType = PropertyAccessor.class.getName();
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(packageName + "." + className, bean)
+                .openWriter())) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("@javax.annotation.processing.Generated(\"" + AccessorProcessor.class.getName() + "\")");
+            out.println("public final class " + className + " {");
+            out.println();
+            for (Property property : properties) {
+                String type = boxedName(property.type());
+                out.println("    public static final " + accessorType + "<" + beanName + ", " + type + "> "
+                        + constantName(property.name()) + " = new " + accessorType + "<>(\""
+                        + property.name() + "\", \"" + caption(property.name()) + "\", " + type + ".class, "
+                        + beanName + "::" + property.getter() + ", " + beanName + "::" + property.setter() + ");");
+            }
+            out.println();
+            out.println("    private static final java.util.Map<String, " + accessorType + "<" + beanName
+                    + ", ?>> BY_NAME = new java.util.LinkedHashMap<>();");
+            out.println();
+            out.println("    static {");
+            for (Property property : properties) {
+                out.println("        BY_NAME.put(\"" + property.name() + "\", " + constantName(property.name()) + ");");
+            }
+            out.println("    }");
+            out.println();
+            out.println("    private " + className + "() {");
+            out.println("    }");
+            out.println();
+            out.println("    public static java.util.Collection<" + accessorType + "<" + beanName + ", ?>> all() {");
+            out.println("        return java.util.Collections.unmodifiableCollection(BY_NAME.values());");
+            out.println("    }");
+            out.println();
+            out.println("    public static " + accessorType + "<" + beanName + ", ?> get(String name) {");
+            out.println("        " + accessorType + "<" + beanName + ", ?> accessor = BY_NAME.get(name);");
+            out.println("        if (accessor == null) {");
+            out.println("            throw new IllegalArgumentException(\"No property \" + name + \" in " + beanName
+                    + "\");");
+            out.println("        }");
+            out.println("        return accessor;");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private String boxedName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String constantName(String property) {
+        return property.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    private static String caption(String property) {
+        String words = property.replaceAll("([a-z0-9])([A-Z])", "$1 $2");
+        return Character.toUpperCase(words.charAt(0)) + words.substring(1);
+    }
+}
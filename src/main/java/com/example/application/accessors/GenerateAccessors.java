@@ -0,0 +1,17 @@
+package com.example.application.accessors;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a {@code <ClassName>Accessors} class next to the annotated bean,
+ * with a {@link PropertyAccessor} constant for each property that has both a
+ * getter and a setter, including the inherited ones. See
+ * {@link AccessorProcessor}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GenerateAccessors {
+}
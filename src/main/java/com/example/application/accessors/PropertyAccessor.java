@@ -0,0 +1,48 @@
+package com.example.application.accessors;
+
+import java.util.Comparator;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Typed access to a bean property through method references, generated at
+ * compile time for beans annotated with {@link GenerateAccessors}. Reading
+ * and writing values doesn't use reflection.
+ *
+ * @param name the property name, e.g. "firstName"
+ * @param caption the name for humans, e.g. "First Name"
+ * @param type the (boxed) type of the property
+ * @param getter reads the value
+ * @param setter writes the value
+ * @param <T> the bean type
+ * @param <V> the property type
+ */
+public record PropertyAccessor<T, V>(String name, String caption, Class<V> type, Function<T, V> getter,
+        BiConsumer<T, V> setter) {
+
+    public V get(T bean) {
+        return getter.apply(bean);
+    }
+
+    public void set(T bean, V value) {
+        setter.accept(bean, value);
+    }
+
+    /**
+     * Orders beans by the value of this property, nulls first. Only for
+     * properties with a {@link Comparable} type.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Comparator<T> comparator() {
+        return Comparator.comparing(bean -> (Comparable) get(bean), Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    /**
+     * Sets a value of unknown type, e.g. one read from a query result.
+     *
+     * @throws ClassCastException if the value is not of the property type
+     */
+    public void setObject(T bean, Object value) {
+        setter.accept(bean, type.cast(value));
+    }
+}
@@ -19,6 +19,9 @@ import java.util.Optional;
 @Tag("vcf-nav")
 public class AppNav extends Component implements HasSize, HasStyle {
 
+    // kept to avoid scanning the children for it
+    private Element labelElement;
+
     /**
      * Creates a new menu without any label.
      */
@@ -75,6 +78,9 @@ public class AppNav extends Component implements HasSize, HasStyle {
      */
     public AppNav removeAllItems() {
         getElement().removeAllChildren();
+        if (labelElement != null) {
+            getElement().appendChild(labelElement);
+        }
         return this;
     }
 
@@ -84,7 +90,7 @@ public class AppNav extends Component implements HasSize, HasStyle {
      * @return the label or null if no label has been set
      */
     public String getLabel() {
-        return getExistingLabelElement().map(e -> e.getText()).orElse(null);
+        return labelElement == null ? null : labelElement.getText();
     }
 
     /**
@@ -102,17 +108,13 @@ public class AppNav extends Component implements HasSize, HasStyle {
         return this;
     }
 
-    private Optional<Element> getExistingLabelElement() {
-        return getElement().getChildren().filter(child -> "label".equals(child.getAttribute("slot"))).findFirst();
-    }
-
     private Element getLabelElement() {
-        return getExistingLabelElement().orElseGet(() -> {
-            Element element = new Element("span");
-            element.setAttribute("slot", "label");
-            getElement().appendChild(element);
-            return element;
-        });
+        if (labelElement == null) {
+            labelElement = new Element("span");
+            labelElement.setAttribute("slot", "label");
+            getElement().appendChild(labelElement);
+        }
+        return labelElement;
     }
 
     /**
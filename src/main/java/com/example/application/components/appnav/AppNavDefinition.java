@@ -0,0 +1,52 @@
+package com.example.application.components.appnav;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * An immutable description of a menu item and the items inside it. Build a
+ * large menu once and share it between sessions, {@link #createItem()}
+ * creates the components for one session. The items inside are created only
+ * when their parent is expanded, see {@link AppNavItem#setChildProvider}.
+ *
+ * @param label
+ *            the label of the item
+ * @param path
+ *            the path to link to, or null
+ * @param iconClass
+ *            the CSS class for the icon, or null
+ * @param children
+ *            the items inside this item
+ */
+public record AppNavDefinition(String label, String path, String iconClass, List<AppNavDefinition> children)
+        implements Serializable {
+
+    public AppNavDefinition {
+        children = List.copyOf(children);
+    }
+
+    public AppNavDefinition(String label, String path, String iconClass) {
+        this(label, path, iconClass, List.of());
+    }
+
+    /**
+     * Creates the menu item for this definition.
+     *
+     * @return a new menu item
+     */
+    public AppNavItem createItem() {
+        AppNavItem item = new AppNavItem(label);
+        if (path != null) {
+            item.setPath(path);
+        }
+        if (iconClass != null) {
+            item.setIconClass(iconClass);
+        }
+        if (!children.isEmpty()) {
+            item.setChildProvider(() -> children.stream()
+                    .map(AppNavDefinition::createItem)
+                    .toList());
+        }
+        return item;
+    }
+}
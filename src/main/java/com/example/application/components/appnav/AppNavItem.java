@@ -5,11 +5,14 @@ import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableSupplier;
 import com.vaadin.flow.internal.StateTree;
 import com.vaadin.flow.router.RouteConfiguration;
 import com.vaadin.flow.router.Router;
 import com.vaadin.flow.server.VaadinService;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,6 +24,13 @@ import java.util.Optional;
 @Tag("vcf-nav-item")
 public class AppNavItem extends Component {
 
+    // kept to avoid scanning the children for it
+    private Element labelElement;
+
+    private SerializableSupplier<List<AppNavItem>> childProvider;
+    private boolean childrenLoaded;
+    private DomListenerRegistration expandListener;
+
     /**
      * Creates a menu item which does not link to any view but only shows the given
      * label.
@@ -167,17 +177,79 @@ public class AppNavItem extends Component {
      * @return this item for chaining
      */
     public AppNavItem removeAllItems() {
-        getElement().removeAllChildren();
+        getElement().getChildren()
+                .filter(child -> "children".equals(child.getAttribute("slot")))
+                .toList()
+                .forEach(child -> getElement().removeChild(child));
         return this;
     }
 
+    /**
+     * Sets a provider for the menu items inside this item, replacing any
+     * added items. The provider is called when the item is expanded, and the
+     * items are removed again when it is collapsed, so that only the expanded
+     * parts of a large hierarchy are in memory.
+     *
+     * @param childProvider
+     *            creates the child items, or null to remove the provider
+     * @return this item for chaining
+     */
+    public AppNavItem setChildProvider(SerializableSupplier<List<AppNavItem>> childProvider) {
+        removeAllItems();
+        this.childProvider = childProvider;
+        childrenLoaded = false;
+        if (childProvider == null) {
+            if (expandListener != null) {
+                expandListener.remove();
+                expandListener = null;
+            }
+            return this;
+        }
+        if (expandListener == null) {
+            // the item expands itself in the browser, tell the server. Also
+            // covers toggling with the keyboard, which a click listener
+            // misses; the nested items' events are filtered out
+            expandListener = getElement()
+                    .addEventListener("expanded-changed",
+                            e -> setExpanded(e.getEventData().getBoolean("!!element.expanded")))
+                    .addEventData("!!element.expanded")
+                    .setFilter("event.target === element");
+        }
+        if (isExpanded()) {
+            loadChildren();
+        } else {
+            addPlaceholder();
+        }
+        return this;
+    }
+
+    private void loadChildren() {
+        removeAllItems();
+        childProvider.get().forEach(this::addItem);
+        childrenLoaded = true;
+    }
+
+    private void releaseChildren() {
+        removeAllItems();
+        addPlaceholder();
+        childrenLoaded = false;
+    }
+
+    private void addPlaceholder() {
+        // the item shows the expand toggle only if it has children
+        Element placeholder = new Element("vcf-nav-item");
+        placeholder.setAttribute("slot", "children");
+        placeholder.setText("...");
+        getElement().appendChild(placeholder);
+    }
+
     /**
      * Gets the label for the item.
      * 
      * @return the label or null if no label has been set
      */
     public String getLabel() {
-        return getExistingLabelElement().map(e -> e.getText()).orElse(null);
+        return labelElement == null ? null : labelElement.getText();
     }
 
     /**
@@ -194,16 +266,12 @@ public class AppNavItem extends Component {
         return this;
     }
 
-    private Optional<Element> getExistingLabelElement() {
-        return getElement().getChildren().filter(child -> !child.hasAttribute("slot")).findFirst();
-    }
-
     private Element getLabelElement() {
-        return getExistingLabelElement().orElseGet(() -> {
-            Element element = Element.createText("");
-            getElement().appendChild(element);
-            return element;
-        });
+        if (labelElement == null) {
+            labelElement = Element.createText("");
+            getElement().appendChild(labelElement);
+        }
+        return labelElement;
     }
 
     /**
@@ -298,6 +366,9 @@ public class AppNavItem extends Component {
 
     /**
      * Sets the expanded status of the item.
+     * <p>
+     * With a child provider, expanding creates the child items and
+     * collapsing removes them.
      *
      * @param value
      *            true to expand the item, false to collapse it
@@ -308,7 +379,23 @@ public class AppNavItem extends Component {
         } else {
             getElement().removeAttribute("expanded");
         }
+        if (childProvider != null && value != childrenLoaded) {
+            if (value) {
+                loadChildren();
+            } else {
+                releaseChildren();
+            }
+        }
         return this;
     }
 
+    /**
+     * Checks if the item is expanded.
+     *
+     * @return true if the item is expanded, false otherwise
+     */
+    public boolean isExpanded() {
+        return getElement().hasAttribute("expanded");
+    }
+
 }
@@ -0,0 +1,26 @@
+package com.example.application.data.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes the connections of read-only transactions to the replica and
+ * everything else, including work outside of transactions, to the primary.
+ * <p>
+ * The read-only flag of a transaction is only known after the transaction
+ * manager has asked for a connection, so this must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Target.REPLICA
+                : Target.PRIMARY;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.application.data.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Separate connection pools for the primary database and a read replica,
+ * activate with the "read-replica" profile. Read-only transactions, i.e. the
+ * grid and the other reads of SamplePersonService, use the replica, the rest
+ * the primary. The pools are configured with the {@code app.datasource.primary}
+ * and {@code app.datasource.replica} Hikari properties, see
+ * {@code application-read-replica.properties}.
+ */
+@Configuration
+@Profile("read-replica")
+public class ReadReplicaConfiguration {
+
+    @Bean
+    @ConfigurationProperties("app.datasource.primary")
+    HikariDataSource primaryDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    HikariDataSource replicaDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        ReadOnlyRoutingDataSource routing = new ReadOnlyRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadOnlyRoutingDataSource.Target.PRIMARY, primaryDataSource,
+                ReadOnlyRoutingDataSource.Target.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -12,8 +12,10 @@ public abstract class AbstractEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idgenerator")
-    // The initial value is to account for data.sql demo data ids
-    @SequenceGenerator(name = "idgenerator", initialValue = 1000)
+    // The initial value is to account for the demo data ids,
+    // ids are allocated in blocks with the pooled-lo optimizer
+    // (see application.properties) to make batch inserts cheap
+    @SequenceGenerator(name = "idgenerator", initialValue = 1000, allocationSize = 50)
     private Long id;
 
     @Version
@@ -31,6 +33,10 @@ public abstract class AbstractEntity {
         return version;
     }
 
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     @Override
     public int hashCode() {
         if (getId() != null) {
@@ -1,13 +1,25 @@
 package com.example.application.data.entity;
 
+import com.example.application.accessors.GenerateAccessors;
 import java.time.LocalDate;
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotEmpty;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+// Deep links load persons by id, keep the recently used ones in memory
+@Cacheable
+// the region is sized in application.conf
+@Cache(region = SamplePerson.CACHE_REGION, usage = CacheConcurrencyStrategy.READ_WRITE)
+// Typed property access without reflection, see SamplePersonAccessors
+@GenerateAccessors
 public class SamplePerson extends AbstractEntity {
 
+    public static final String CACHE_REGION = "samplePerson";
+
     @NotEmpty
     private String firstName;
     private String lastName;
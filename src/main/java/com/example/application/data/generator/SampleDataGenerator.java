@@ -0,0 +1,165 @@
+package com.example.application.data.generator;
+
+import com.example.application.data.service.SamplePersonService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates a large amount of realistic looking persons for load testing,
+ * activate with the "large-dataset" profile, e.g.
+ * {@code ./mvnw -Dspring-boot.run.profiles=large-dataset}.
+ * <p>
+ * Rows are generated in chunks by a pool of threads and written with JDBC
+ * batch inserts. Each chunk has its own random generator seeded from the
+ * configured seed and the chunk number, so the data is the same regardless
+ * of the number of threads. Rows are only generated up to the configured
+ * count, so restarting with a persistent database doesn't add more.
+ */
+@Component
+@Profile("large-dataset")
+public class SampleDataGenerator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SampleDataGenerator.class);
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String INSERT = "insert into sample_person"
+            + "(version, id, first_name, last_name, email, phone, date_of_birth, occupation, role, important)"
+            + " values (1, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] FIRST_NAMES = {"Aaron", "Agnes", "Alejandro", "Anne", "Augusta", "Barbara",
+            "Barry", "Belle", "Bess", "Bobby", "Brandon", "Bryan", "Celia", "Clyde", "Cora", "Corey", "Craig",
+            "Cynthia", "Danny", "Dustin", "Earl", "Edith", "Edna", "Essie", "Eugenia", "Eula", "Eva", "Fanny",
+            "Florence", "Frances", "Francisco", "Garrett", "Gary", "Gene", "Gertrude", "Gregory", "Helen",
+            "Henrietta", "Henry", "Hester"};
+    private static final String[] LAST_NAMES = {"Adams", "Aoki", "Baker", "Bennett", "Bernardi", "Bianchini",
+            "Blake", "Borchi", "Brennan", "Brun", "Carter", "Ciappi", "Cozzi", "Crawford", "Dietrich", "Driessen",
+            "Dunn", "Fabbrini", "Fani", "Formigli", "Fujimoto", "Gauthier", "Gigli", "Gil", "Giordano",
+            "Giovannoni", "Goodman", "Graham", "Gray", "Grossi", "Henry", "Hilton", "Holden", "Hopkins", "Huet",
+            "Ishii", "Jacobs", "Koopmans", "Lane", "Leach"};
+    private static final String[] DOMAINS = {"jigrormo.ye", "zun.mm", "capfad.vn", "tuvo.sa", "soofpe.ht",
+            "kagu.hr", "wi.lc", "omjo.et", "pi.cf", "sicewap.org"};
+    private static final String[] OCCUPATIONS = {"African History Professor", "Attending Anesthesiologist",
+            "Auto Tire Worker", "Basketball Player", "Beer Coil Cleaner", "Bindery Machine Operator",
+            "Bottle Packer", "Brewery Pumper", "Budget Coordinator", "Business Unit Manager",
+            "Catalogue Illustrator", "Chief Projectionist", "Cigar Roller", "Classroom Aide",
+            "Clinical Audiologist", "Comedian", "Computer Applications Developer", "Insurance Clerk",
+            "Mortarman", "Customer Support Representative"};
+    private static final String[] ROLES = {"Worker", "Manager", "External", "Supervisor"};
+
+    private static final LocalDate OLDEST = LocalDate.of(1930, 1, 1);
+    private static final int DAYS_OF_BIRTH = 80 * 365;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SamplePersonService personService;
+
+    private final long rows;
+    private final long seed;
+    private final int threads;
+
+    public SampleDataGenerator(JdbcTemplate jdbcTemplate, SamplePersonService personService,
+            @Value("${generator.rows:1000000}") long rows,
+            @Value("${generator.seed:42}") long seed,
+            @Value("${generator.threads:0}") int threads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.personService = personService;
+        this.rows = rows;
+        this.seed = seed;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long existing = jdbcTemplate.queryForObject("select count(*) from sample_person", Long.class);
+        if (existing >= rows) {
+            logger.info("Already {} persons, not generating more", existing);
+            return;
+        }
+        // generated ids go after the demo data and whatever the sequence has given out
+        long firstId = Math.max(
+                jdbcTemplate.queryForObject("select coalesce(max(id), 0) + 1 from sample_person", Long.class),
+                1000);
+        long toGenerate = rows - existing;
+        long chunks = (toGenerate + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        logger.info("Generating {} persons with {} threads, seed {}", toGenerate, threads, seed);
+
+        long start = System.currentTimeMillis();
+        AtomicLong done = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                long chunkStart = chunk * CHUNK_SIZE;
+                int size = (int) Math.min(CHUNK_SIZE, toGenerate - chunkStart);
+                long chunkNumber = chunk;
+                futures.add(executor.submit(() -> {
+                    insertChunk(new SplittableRandom(seed + chunkNumber), firstId + chunkStart, size);
+                    long total = done.addAndGet(size);
+                    if (total % (CHUNK_SIZE * 50L) == 0) {
+                        logger.info("Generated {} persons", total);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long nextId = firstId + toGenerate;
+        jdbcTemplate.execute("alter sequence idgenerator restart with " + nextId);
+        personService.invalidateCount();
+        long millis = System.currentTimeMillis() - start;
+        logger.info("Generated {} persons in {} ms ({} rows/s)", toGenerate, millis,
+                toGenerate * 1000 / Math.max(millis, 1));
+    }
+
+    private void insertChunk(SplittableRandom random, long firstId, int size) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < size; i++) {
+            batch.add(createRow(random, firstId + i));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, batch);
+        }
+    }
+
+    private static Object[] createRow(SplittableRandom random, long id) {
+        String firstName = pick(random, FIRST_NAMES);
+        String lastName = pick(random, LAST_NAMES);
+        // the id keeps emails unique
+        String email = (firstName + "." + lastName + id).toLowerCase(Locale.ROOT) + "@" + pick(random, DOMAINS);
+        String phone = "(%03d) %03d-%04d".formatted(
+                random.nextInt(200, 1000), random.nextInt(1000), random.nextInt(10000));
+        LocalDate dateOfBirth = OLDEST.plusDays(random.nextInt(DAYS_OF_BIRTH));
+        return new Object[] {id, firstName, lastName, email, phone, Date.valueOf(dateOfBirth),
+                pick(random, OCCUPATIONS), pick(random, ROLES), random.nextInt(10) == 0};
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
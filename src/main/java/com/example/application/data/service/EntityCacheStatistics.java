@@ -0,0 +1,76 @@
+package com.example.application.data.service;
+
+import com.example.application.data.entity.SamplePerson;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Hit and miss counts of the second-level cache region of
+ * {@link SamplePerson}, also published as metrics.
+ */
+@Component
+public class EntityCacheStatistics implements MeterBinder {
+
+    private static final String REGION = SamplePerson.CACHE_REGION;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EntityCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public long getHitCount() {
+        return getStatistics().getHitCount();
+    }
+
+    public long getMissCount() {
+        return getStatistics().getMissCount();
+    }
+
+    public long getPutCount() {
+        return getStatistics().getPutCount();
+    }
+
+    public long getElementCountInMemory() {
+        return getStatistics().getElementCountInMemory();
+    }
+
+    /**
+     * Evicts a person from the cache, e.g. when the cached version turned out
+     * to be stale.
+     */
+    public void evict(Long id) {
+        entityManagerFactory.getCache().evict(SamplePerson.class, id);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("person.cache.requests", this, EntityCacheStatistics::getHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("person.cache.requests", this, EntityCacheStatistics::getMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("person.cache.size", this, EntityCacheStatistics::getElementCountInMemory)
+                .register(registry);
+    }
+
+    private CacheRegionStatistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics()
+                .getDomainDataRegionStatistics(REGION);
+    }
+
+    @Override
+    public String toString() {
+        return "SamplePerson cache: hits=%d, misses=%d, puts=%d, size=%d"
+                .formatted(getHitCount(), getMissCount(), getPutCount(), getElementCountInMemory());
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.application.data.service;
+
+import java.util.List;
+
+/**
+ * The state of a running or finished import.
+ *
+ * @param rows the number of data rows read so far
+ * @param imported the number of rows stored
+ * @param errors messages for the rows that were skipped, capped to a
+ *            reasonable amount
+ */
+public record ImportProgress(long rows, long imported, List<String> errors) {
+
+    public long failed() {
+        return rows - imported;
+    }
+}
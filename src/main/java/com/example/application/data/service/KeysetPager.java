@@ -0,0 +1,162 @@
+package com.example.application.data.service;
+
+import com.example.application.data.entity.SamplePerson;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fetches pages using keyset (seek) pagination when the requested page
+ * follows a page fetched earlier, so scrolling deep into a large table costs
+ * the same as reading its first page. Random jumps fall back to offset
+ * paging.
+ * <p>
+ * Remembers the sort key of the last row of each fetched page, so one
+ * instance should be used per data provider (e.g. per Grid). Thread safe,
+ * so pages can be fetched in the background, see {@link ReadAheadPager}.
+ */
+public class KeysetPager {
+
+    // plenty for normal scrolling, just avoid growing forever
+    private static final int MAX_POSITIONS = 10_000;
+
+    private final SamplePersonRepository repository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, KeysetPosition> positions = new HashMap<>();
+    private Sort sort;
+    private Set<String> properties;
+    private Specification<SamplePerson> filter;
+    // changes whenever the fetched rows would change
+    private long generation;
+
+    KeysetPager(SamplePersonRepository repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Limits the loaded properties to the given ones (plus id, version and
+     * sorted properties). The fetched rows are then read only projections,
+     * not managed entities.
+     *
+     * @param properties the properties to load, or null to load full entities
+     */
+    public synchronized void setProperties(Set<String> properties) {
+        this.properties = properties == null ? null : Set.copyOf(properties);
+        generation++;
+    }
+
+    /**
+     * Sets the filter for the fetched rows. Call refresh on the data provider
+     * after changing it.
+     *
+     * @param filter the filter, or null to list all rows
+     */
+    public synchronized void setFilter(Specification<SamplePerson> filter) {
+        this.filter = filter;
+        positions.clear();
+        generation++;
+    }
+
+    public synchronized Specification<SamplePerson> getFilter() {
+        return filter;
+    }
+
+    synchronized long getGeneration() {
+        return generation;
+    }
+
+    public Stream<SamplePerson> fetch(Pageable pageable) {
+        Sort sort = withIdTieBreaker(pageable.getSort());
+        long offset = pageable.getOffset();
+        int limit = pageable.getPageSize();
+
+        // the query runs without the lock, so the page the user is waiting
+        // for doesn't queue behind pages read ahead in the background
+        Specification<SamplePerson> filter;
+        Set<String> properties;
+        long generation;
+        KeysetPosition position;
+        synchronized (this) {
+            if (!sort.equals(this.sort)) {
+                // positions are only meaningful for the sort they were read with
+                positions.clear();
+                this.sort = sort;
+            }
+            filter = this.filter;
+            properties = this.properties;
+            generation = this.generation;
+            // seek if we know where the previous page ended, otherwise
+            // this is a random jump and the offset is used
+            position = positions.get(offset);
+        }
+
+        long start = System.nanoTime();
+        List<SamplePerson> rows = repository.findRows(filter, properties, position, offset, sort, limit);
+        recordFetch(System.nanoTime() - start, sort, filter != null, position == null && offset > 0, offset,
+                rows.size());
+
+        if (rows.size() == limit) {
+            KeysetPosition next = KeysetPosition.of(rows.get(rows.size() - 1), sort);
+            synchronized (this) {
+                // unless the sort or filter changed meanwhile
+                if (sort.equals(this.sort) && generation == this.generation) {
+                    if (positions.size() >= MAX_POSITIONS) {
+                        positions.clear();
+                    }
+                    positions.put(offset + limit, next);
+                }
+            }
+        }
+        return rows.stream();
+    }
+
+    private void recordFetch(long nanos, Sort sort, boolean filtered, boolean offsetPaging, long offset, int rows) {
+        String sortTag = sort.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+        Timer.builder("grid.fetch")
+                .description("Grid page fetches")
+                .tag("sort", sortTag)
+                .tag("paging", offsetPaging ? "offset" : "keyset")
+                .tag("filtered", Boolean.toString(filtered))
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("grid.fetch.rows")
+                .description("Rows returned per grid page fetch")
+                .register(meterRegistry)
+                .record(rows);
+        DistributionSummary.builder("grid.fetch.offset")
+                .description("Offset of grid page fetches")
+                .register(meterRegistry)
+                .record(offset);
+    }
+
+    /**
+     * Adds id as the last sort column, to make the order unique. It is sorted
+     * in the direction of the first column, so that the indexes on (column,
+     * id) and (column desc, id desc) can be used.
+     */
+    public static Sort withIdTieBreaker(Sort sort) {
+        if (sort.getOrderFor("id") != null) {
+            return sort;
+        }
+        Sort.Direction direction = sort.stream()
+                .findFirst()
+                .map(Sort.Order::getDirection)
+                .orElse(Sort.Direction.ASC);
+        return sort.and(Sort.by(direction, "id"));
+    }
+}
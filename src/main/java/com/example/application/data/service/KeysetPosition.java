@@ -0,0 +1,29 @@
+package com.example.application.data.service;
+
+import com.example.application.data.entity.SamplePerson;
+import com.example.application.data.entity.SamplePersonAccessors;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The values of the sort columns of a row, used to seek to the rows that
+ * follow it instead of skipping them with an offset.
+ *
+ * @param values the sort column values, in the order of the sort
+ */
+public record KeysetPosition(List<Object> values) {
+
+    /**
+     * Reads the sort key of the given row. Values may be null, the seek
+     * predicate places them like the database sorts them.
+     */
+    static KeysetPosition of(SamplePerson row, Sort sort) {
+        List<Object> values = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            values.add(SamplePersonAccessors.get(order.getProperty()).get(row));
+        }
+        return new KeysetPosition(values);
+    }
+}
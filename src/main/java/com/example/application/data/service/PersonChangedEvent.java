@@ -0,0 +1,20 @@
+package com.example.application.data.service;
+
+/**
+ * Published after persons have been stored or deleted, so that other users
+ * viewing them can be updated.
+ *
+ * @param id the id of the changed person, or null if many persons changed
+ *            at once (e.g. an import)
+ * @param type what happened
+ */
+public record PersonChangedEvent(Long id, Type type) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, BULK
+    }
+
+    public static PersonChangedEvent bulk() {
+        return new PersonChangedEvent(null, Type.BULK);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.application.data.service;
+
+import com.example.application.data.entity.SamplePerson;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exports persons as CSV, in the format {@link PersonImportService} reads.
+ * Rows are streamed from the database with a forward only cursor straight
+ * to the writer, so the memory use doesn't depend on the number of rows.
+ */
+@Service
+public class PersonExportService {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String HEADER = "firstName,lastName,email,phone,dateOfBirth,occupation,role,important";
+
+    private final SamplePersonRepository repository;
+
+    public PersonExportService(SamplePersonRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Writes the matching persons in the given order as CSV.
+     *
+     * @param filter the filter, or null to export all persons
+     * @param sort the order of the rows
+     * @param out the target, not closed by this method
+     * @return the number of exported rows
+     */
+    @Transactional(readOnly = true)
+    public long exportCsv(Specification<SamplePerson> filter, Sort sort, Writer out) throws IOException {
+        out.write(HEADER);
+        out.write('\n');
+        long rows = 0;
+        try (Stream<SamplePerson> persons = repository.streamAll(filter, sort, FETCH_SIZE)) {
+            Iterator<SamplePerson> iterator = persons.iterator();
+            while (iterator.hasNext()) {
+                writeRow(out, iterator.next());
+                rows++;
+            }
+        }
+        out.flush();
+        return rows;
+    }
+
+    private static void writeRow(Writer out, SamplePerson p) throws IOException {
+        out.write(String.join(",",
+                escape(p.getFirstName()),
+                escape(p.getLastName()),
+                escape(p.getEmail()),
+                escape(p.getPhone()),
+                p.getDateOfBirth() == null ? "" : p.getDateOfBirth().toString(),
+                escape(p.getOccupation()),
+                escape(p.getRole()),
+                Boolean.toString(p.isImportant())));
+        out.write('\n');
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.application.data.service;
+
+import com.example.application.data.entity.SamplePerson;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports persons from CSV in a streaming manner, so the size of the
+ * file doesn't matter.
+ * <p>
+ * The first line must be a header naming the columns with the property
+ * names of {@link SamplePerson} (firstName, lastName, email, phone,
+ * dateOfBirth, occupation, role, important), in any order. Dates are in ISO
+ * format (2012-05-28). Quoted values may contain commas and doubled quotes,
+ * but not line breaks.
+ * <p>
+ * Rows are validated with the bean validation constraints of
+ * {@link SamplePerson}, invalid rows are skipped. Valid rows are stored in a
+ * transaction per {@link #BATCH_SIZE} rows, which Hibernate sends as JDBC
+ * batches (see hibernate.jdbc.batch_size) with ids allocated by the pooled-lo
+ * optimizer.
+ */
+@Service
+public class PersonImportService {
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final int MAX_ERRORS = 100;
+
+    private static final Set<String> COLUMNS = Set.of("firstName", "lastName", "email", "phone",
+            "dateOfBirth", "occupation", "role", "important");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final SamplePersonService personService;
+    private final Optional<PersonSearchIndex> searchIndex;
+    private final Optional<PersonReadModel> readModel;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Imports run for minutes with large files, keep them off the common
+    // pool and limit how many run at the same time
+    private final ThreadPoolExecutor importExecutor = new ThreadPoolExecutor(2, 2,
+            30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(10), r -> {
+                Thread thread = new Thread(r, "person-import");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+
+    public PersonImportService(TransactionTemplate transactionTemplate, Validator validator,
+            SamplePersonService personService, Optional<PersonSearchIndex> searchIndex,
+            Optional<PersonReadModel> readModel, ApplicationEventPublisher eventPublisher) {
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.personService = personService;
+        this.searchIndex = searchIndex;
+        this.readModel = readModel;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Runs an import in the background, on the threads reserved for imports.
+     *
+     * @param importTask calls {@link #importCsv} and reports the result
+     * @return completes when the task has run
+     * @throws RejectedExecutionException if too many imports are waiting
+     */
+    public CompletableFuture<Void> runInBackground(Runnable importTask) {
+        return CompletableFuture.runAsync(importTask, importExecutor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        importExecutor.shutdownNow();
+    }
+
+    /**
+     * Imports persons from the given CSV.
+     *
+     * @param csv the CSV content, closed by the caller
+     * @param progressListener notified after each stored batch, may be called
+     *            from the calling thread only
+     * @return the final state of the import
+     * @throws IOException if reading fails
+     * @throws IllegalArgumentException if the header is missing or invalid
+     */
+    public ImportProgress importCsv(Reader csv, Consumer<ImportProgress> progressListener) throws IOException {
+        BufferedReader reader = new BufferedReader(csv);
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        List<String> columns = parseLine(stripBom(header)).stream().map(String::trim).toList();
+        for (String column : columns) {
+            if (!COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Unknown column: " + column);
+            }
+        }
+
+        List<String> errors = new ArrayList<>();
+        List<SamplePerson> batch = new ArrayList<>(BATCH_SIZE);
+        long rows = 0;
+        long imported = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                rows++;
+                try {
+                    SamplePerson person = toPerson(columns, parseLine(line));
+                    Set<ConstraintViolation<SamplePerson>> violations = validator.validate(person);
+                    if (violations.isEmpty()) {
+                        batch.add(person);
+                    } else {
+                        addError(errors, rows, violations.stream()
+                                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                                .collect(Collectors.joining(", ")));
+                    }
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    addError(errors, rows, e.getMessage());
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    imported += store(batch);
+                    progressListener.accept(new ImportProgress(rows, imported, List.copyOf(errors)));
+                }
+            }
+            imported += store(batch);
+        } finally {
+            if (imported > 0) {
+                personService.invalidateCount();
+            }
+        }
+        ImportProgress result = new ImportProgress(rows, imported, List.copyOf(errors));
+        progressListener.accept(result);
+        return result;
+    }
+
+    private int store(List<SamplePerson> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // don't let the imported persons evict the cached ones, like the export
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+            batch.forEach(entityManager::persist);
+        });
+        searchIndex.ifPresent(index -> batch.forEach(index::put));
+        readModel.ifPresent(model -> model.putAll(batch));
+        eventPublisher.publishEvent(PersonChangedEvent.bulk());
+        int stored = batch.size();
+        batch.clear();
+        return stored;
+    }
+
+    private static SamplePerson toPerson(List<String> columns, List<String> values) {
+        if (values.size() != columns.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + columns.size() + " values, got " + values.size());
+        }
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String value = values.get(i).trim();
+            row.put(columns.get(i), value.isEmpty() ? null : value);
+        }
+        SamplePerson person = new SamplePerson();
+        person.setFirstName(row.get("firstName"));
+        person.setLastName(row.get("lastName"));
+        person.setEmail(row.get("email"));
+        person.setPhone(row.get("phone"));
+        String dateOfBirth = row.get("dateOfBirth");
+        person.setDateOfBirth(dateOfBirth == null ? null : LocalDate.parse(dateOfBirth));
+        person.setOccupation(row.get("occupation"));
+        person.setRole(row.get("role"));
+        person.setImportant(Boolean.parseBoolean(row.get("important")));
+        return person;
+    }
+
+    static List<String> parseLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static String stripBom(String header) {
+        return header.startsWith("\uFEFF") ? header.substring(1) : header;
+    }
+
+    private static void addError(List<String> errors, long row, String message) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add("Row " + row + ": " + message);
+        }
+    }
+}
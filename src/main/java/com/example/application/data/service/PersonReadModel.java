@@ -0,0 +1,551 @@
+package com.example.application.data.service;
+
+import com.example.application.accessors.PropertyAccessor;
+import com.example.application.data.entity.SamplePerson;
+import com.example.application.data.entity.SamplePersonAccessors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * A columnar in-memory copy of all persons that answers the page, sort and
+ * filter queries of the master grid without the database. Enable with
+ * {@code grid.read-model=true}.
+ * <p>
+ * Each property is an array indexed by row: primitives for the id, version,
+ * date of birth (as epoch day) and important flag, and dictionary codes for
+ * the strings, whose bytes are kept off-heap in a {@link StringDictionary}.
+ * For every sortable property the rows are kept in (value, id) order, read
+ * backwards for descending sorts, so a page of an unfiltered sort is a slice
+ * of an array. Starts-with filters are evaluated once per distinct value
+ * instead of once per row.
+ * <p>
+ * Built when the application starts and kept up to date by
+ * {@link SamplePersonService}. Deleted rows are only dropped from the sort
+ * orders, their space is reclaimed by {@link #rebuild()}.
+ */
+@Component
+@ConditionalOnProperty("grid.read-model")
+public class PersonReadModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersonReadModel.class);
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final Set<String> LOADED_PROPERTIES = Set.of("firstName", "lastName", "email", "phone",
+            "dateOfBirth", "occupation", "role", "important");
+
+    private static final List<String> SORTABLE_PROPERTIES = List.of("id", "firstName", "lastName", "email",
+            "phone", "dateOfBirth", "occupation", "role", "important");
+
+    // sorts before all dates, like null does in the database
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+
+    private static final class StringColumn {
+
+        private final PropertyAccessor<SamplePerson, String> property;
+        private final StringDictionary dictionary = new StringDictionary();
+        private int[] codes;
+
+        private StringColumn(PropertyAccessor<SamplePerson, String> property, int capacity) {
+            this.property = property;
+            codes = new int[capacity];
+        }
+    }
+
+    /**
+     * Row numbers in the order of one property.
+     */
+    private static final class RowOrder {
+
+        private int[] rows;
+        private int size;
+
+        private RowOrder(int[] rows, int size) {
+            this.rows = rows;
+            this.size = size;
+        }
+
+        private int at(int index, boolean descending) {
+            return rows[descending ? size - 1 - index : index];
+        }
+
+        private void insert(int index, int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, Math.max(16, size * 2));
+            }
+            System.arraycopy(rows, index, rows, index + 1, size - index);
+            rows[index] = row;
+            size++;
+        }
+
+        private void remove(int index) {
+            System.arraycopy(rows, index + 1, rows, index, size - index - 1);
+            size--;
+        }
+    }
+
+    private final SamplePersonRepository repository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    // the columns, rows are numbered in the order they were added
+    private int rows;
+    private long[] ids;
+    private int[] versions;
+    private int[] datesOfBirth;
+    private BitSet important;
+    private Map<String, StringColumn> strings;
+
+    private final Map<String, RowOrder> orders = new HashMap<>();
+
+    public PersonReadModel(SamplePersonRepository repository) {
+        this.repository = repository;
+        clear(1024);
+    }
+
+    /**
+     * (Re)builds the model from the database, reading it in
+     * batches ordered by id.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long offHeap;
+        lock.writeLock().lock();
+        try {
+            clear(Math.max(1024, rows));
+            Sort byId = Sort.by("id");
+            KeysetPosition position = null;
+            List<SamplePerson> batch;
+            do {
+                batch = repository.findRows(null, LOADED_PROPERTIES, position, 0, byId, BATCH_SIZE);
+                for (SamplePerson person : batch) {
+                    write(append(), person);
+                }
+                if (!batch.isEmpty()) {
+                    position = KeysetPosition.of(batch.get(batch.size() - 1), byId);
+                }
+            } while (batch.size() == BATCH_SIZE);
+            // loaded in id order
+            int[] loaded = new int[rows];
+            Arrays.setAll(loaded, row -> row);
+            orders.put("id", new RowOrder(loaded, rows));
+            sortAll();
+            ready = true;
+            offHeap = strings.values().stream().mapToLong(column -> column.dictionary.offHeapBytes()).sum();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Loaded {} persons into the read model in {} ms, {} MB of strings off-heap",
+                count(null), System.currentTimeMillis() - start, offHeap / (1024 * 1024));
+    }
+
+    /**
+     * @return false until the model has been loaded
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return true if the rows can be listed in the given order, i.e. it
+     *         sorts by one property and optionally the id in the same
+     *         direction
+     */
+    public boolean supports(Sort sort) {
+        List<Sort.Order> sortOrders = sort.toList();
+        if (sortOrders.isEmpty()) {
+            return true;
+        }
+        Sort.Order first = sortOrders.get(0);
+        return SORTABLE_PROPERTIES.contains(first.getProperty())
+                && !first.isIgnoreCase()
+                && sortOrders.stream().skip(1).allMatch(order -> order.getProperty().equals("id")
+                        && order.getDirection() == first.getDirection());
+    }
+
+    /**
+     * Lists a page of persons. Ties are ordered by id, in the direction of
+     * the sort, like {@link KeysetPager} orders them.
+     *
+     * @param filter the filter, or null
+     * @param pageable the page and a sort that is {@link #supports supported}
+     * @return unmanaged persons with all properties set
+     */
+    public List<SamplePerson> list(SamplePersonFilter filter, Pageable pageable) {
+        if (!supports(pageable.getSort())) {
+            throw new IllegalArgumentException("Unsupported sort " + pageable.getSort());
+        }
+        Sort.Order first = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("id"));
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+        int limit = pageable.getPageSize();
+        lock.readLock().lock();
+        try {
+            RowOrder order = orders.get(first.getProperty());
+            IntPredicate matches = matcher(filter);
+            List<SamplePerson> page = new ArrayList<>(limit);
+            if (matches == null) {
+                for (int i = offset; i < order.size && page.size() < limit; i++) {
+                    page.add(read(order.at(i, first.isDescending())));
+                }
+            } else {
+                int skip = offset;
+                for (int i = 0; i < order.size && page.size() < limit; i++) {
+                    int row = order.at(i, first.isDescending());
+                    if (!matches.test(row)) {
+                        continue;
+                    }
+                    if (skip > 0) {
+                        skip--;
+                    } else {
+                        page.add(read(row));
+                    }
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param filter the filter, or null to count all persons
+     */
+    public int count(SamplePersonFilter filter) {
+        lock.readLock().lock();
+        try {
+            RowOrder byId = orders.get("id");
+            IntPredicate matches = matcher(filter);
+            if (matches == null) {
+                return byId.size;
+            }
+            int count = 0;
+            for (int i = 0; i < byId.size; i++) {
+                if (matches.test(byId.rows[i])) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the person in the model.
+     */
+    public void put(SamplePerson person) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                // not loaded yet, the rebuild reads the saved person
+                return;
+            }
+            int existing = find(person.getId());
+            if (existing >= 0) {
+                orders.keySet().forEach(property -> removeFromOrder(property, existing));
+            }
+            int row = existing >= 0 ? existing : append();
+            write(row, person);
+            orders.keySet().forEach(property -> addToOrder(property, row));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the persons in the model, like {@link #put} but the
+     * orders are sorted once for all of them instead of inserting each
+     * person into each order.
+     */
+    public void putAll(Collection<SamplePerson> persons) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                return;
+            }
+            for (SamplePerson person : persons) {
+                int existing = find(person.getId());
+                if (existing >= 0) {
+                    write(existing, person);
+                } else {
+                    int row = append();
+                    write(row, person);
+                    // usually at the end, new ids are the highest
+                    addToOrder("id", row);
+                }
+            }
+            sortAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            int row = ready ? find(id) : -1;
+            if (row >= 0) {
+                orders.keySet().forEach(property -> removeFromOrder(property, row));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies {@link SamplePersonService#setImportant} to the model.
+     */
+    public void setImportant(Collection<Long> ids, boolean value) {
+        update(ids, "important", row -> important.set(row, value));
+    }
+
+    /**
+     * Applies {@link SamplePersonService#setRole} to the model.
+     */
+    public void setRole(Collection<Long> ids, String value) {
+        update(ids, "role", row -> {
+            StringColumn column = strings.get("role");
+            column.codes[row] = column.dictionary.encode(value);
+        });
+    }
+
+    private void update(Collection<Long> ids, String property, IntConsumer change) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                return;
+            }
+            for (Long id : ids) {
+                int row = find(id);
+                if (row >= 0) {
+                    removeFromOrder(property, row);
+                    change.accept(row);
+                    versions[row]++;
+                    addToOrder(property, row);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clear(int capacity) {
+        rows = 0;
+        ids = new long[capacity];
+        versions = new int[capacity];
+        datesOfBirth = new int[capacity];
+        important = new BitSet(capacity);
+        strings = new LinkedHashMap<>();
+        for (PropertyAccessor<SamplePerson, String> property : List.of(SamplePersonAccessors.FIRST_NAME,
+                SamplePersonAccessors.LAST_NAME, SamplePersonAccessors.EMAIL, SamplePersonAccessors.PHONE,
+                SamplePersonAccessors.OCCUPATION, SamplePersonAccessors.ROLE)) {
+            strings.put(property.name(), new StringColumn(property, capacity));
+        }
+        orders.clear();
+    }
+
+    private int append() {
+        if (rows == ids.length) {
+            int capacity = rows * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            datesOfBirth = Arrays.copyOf(datesOfBirth, capacity);
+            strings.values().forEach(column -> column.codes = Arrays.copyOf(column.codes, capacity));
+        }
+        return rows++;
+    }
+
+    private void write(int row, SamplePerson person) {
+        ids[row] = person.getId();
+        versions[row] = person.getVersion();
+        for (StringColumn column : strings.values()) {
+            column.codes[row] = column.dictionary.encode(column.property.get(person));
+        }
+        LocalDate dateOfBirth = person.getDateOfBirth();
+        datesOfBirth[row] = dateOfBirth == null ? NULL_DATE : (int) dateOfBirth.toEpochDay();
+        important.set(row, person.isImportant());
+    }
+
+    private SamplePerson read(int row) {
+        SamplePerson person = new SamplePerson();
+        person.setId(ids[row]);
+        person.setVersion(versions[row]);
+        for (StringColumn column : strings.values()) {
+            column.property.set(person, column.dictionary.decode(column.codes[row]));
+        }
+        person.setDateOfBirth(datesOfBirth[row] == NULL_DATE ? null : LocalDate.ofEpochDay(datesOfBirth[row]));
+        person.setImportant(important.get(row));
+        return person;
+    }
+
+    /**
+     * Sorts the rows of the id order by each of the other properties.
+     */
+    private void sortAll() {
+        RowOrder byId = orders.get("id");
+        for (String property : SORTABLE_PROPERTIES) {
+            if (!property.equals("id")) {
+                orders.put(property, sort(property, byId));
+            }
+        }
+    }
+
+    /**
+     * Sorts the rows by the property. The index in the id order is the
+     * tie-breaker, the sort key is the value (or its rank for strings) in
+     * the upper and that index in the lower 32 bits of a long.
+     */
+    private RowOrder sort(String property, RowOrder byId) {
+        int size = byId.size;
+        StringColumn column = strings.get(property);
+        int[] ranks = column == null ? null : column.dictionary.ranks();
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            int row = byId.rows[i];
+            int value;
+            if (column != null) {
+                int code = column.codes[row];
+                value = code == StringDictionary.NULL ? -1 : ranks[code];
+            } else if (property.equals("dateOfBirth")) {
+                value = datesOfBirth[row];
+            } else {
+                value = important.get(row) ? 1 : 0;
+            }
+            keys[i] = (long) value << 32 | i;
+        }
+        Arrays.sort(keys);
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = byId.rows[(int) keys[i]];
+        }
+        return new RowOrder(sorted, size);
+    }
+
+    /**
+     * Compares two rows by the property and then by id.
+     */
+    private int compare(String property, int row, int other) {
+        int result = switch (property) {
+            case "id" -> 0;
+            case "dateOfBirth" -> Integer.compare(datesOfBirth[row], datesOfBirth[other]);
+            case "important" -> Boolean.compare(important.get(row), important.get(other));
+            default -> {
+                StringColumn column = strings.get(property);
+                yield column.dictionary.compare(column.codes[row], column.codes[other]);
+            }
+        };
+        return result != 0 ? result : Long.compare(ids[row], ids[other]);
+    }
+
+    /**
+     * @return the index of the row in the order of the property, or
+     *         (-(insertion point) - 1) if it is not there
+     */
+    private int search(String property, int row) {
+        RowOrder order = orders.get(property);
+        int low = 0;
+        int high = order.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int result = compare(property, order.rows[mid], row);
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void addToOrder(String property, int row) {
+        orders.get(property).insert(-(search(property, row) + 1), row);
+    }
+
+    private void removeFromOrder(String property, int row) {
+        orders.get(property).remove(search(property, row));
+    }
+
+    /**
+     * @return the row of the person, or -1 if it is not in the model
+     */
+    private int find(long id) {
+        RowOrder byId = orders.get("id");
+        int low = 0;
+        int high = byId.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int row = byId.rows[mid];
+            if (ids[row] < id) {
+                low = mid + 1;
+            } else if (ids[row] > id) {
+                high = mid - 1;
+            } else {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return a test for the rows matching the filter, with the same
+     *         semantics as {@link SamplePersonFilter#toSpecification()}, or
+     *         null if nothing is filtered
+     */
+    private IntPredicate matcher(SamplePersonFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return null;
+        }
+        List<IntPredicate> conditions = new ArrayList<>();
+        addStartsWith(conditions, "firstName", filter.getFirstName());
+        addStartsWith(conditions, "lastName", filter.getLastName());
+        addStartsWith(conditions, "email", filter.getEmail());
+        addStartsWith(conditions, "occupation", filter.getOccupation());
+        addStartsWith(conditions, "role", filter.getRole());
+        if (filter.getDateOfBirthFrom() != null) {
+            int from = (int) filter.getDateOfBirthFrom().toEpochDay();
+            conditions.add(row -> datesOfBirth[row] != NULL_DATE && datesOfBirth[row] >= from);
+        }
+        if (filter.getDateOfBirthTo() != null) {
+            int to = (int) filter.getDateOfBirthTo().toEpochDay();
+            conditions.add(row -> datesOfBirth[row] != NULL_DATE && datesOfBirth[row] <= to);
+        }
+        if (filter.getImportant() != null) {
+            boolean value = filter.getImportant();
+            conditions.add(row -> important.get(row) == value);
+        }
+        return conditions.stream().reduce(IntPredicate::and).orElse(row -> true);
+    }
+
+    private void addStartsWith(List<IntPredicate> conditions, String property, String value) {
+        if (value != null && !value.isBlank()) {
+            StringColumn column = strings.get(property);
+            BitSet matchingCodes = column.dictionary.startingWith(value.trim());
+            conditions.add(row -> column.codes[row] != StringDictionary.NULL && matchingCodes.get(column.codes[row]));
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.application.data.service;
+
+import com.example.application.data.entity.SamplePerson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory trigram index over the names, emails and phone numbers of
+ * persons, for "search as you type" that matches any part of the values.
+ * A LIKE '%x%' query can't use database indexes.
+ * <p>
+ * Each word is indexed with two leading spaces, so one and two character
+ * queries match the beginning of words. Longer queries match anywhere in a
+ * word. Punctuation is ignored (e.g. "lane@jig" matches
+ * "eula.lane@jigrormo.ye") and phone numbers are indexed as digits only.
+ * <p>
+ * Built when the application starts and kept up to date by
+ * {@link SamplePersonService}. Takes a few hundred bytes of heap per person,
+ * disable with {@code grid.search=false}.
+ */
+@Component
+@ConditionalOnProperty(value = "grid.search", matchIfMissing = true)
+public class PersonSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersonSearchIndex.class);
+
+    private static final int BATCH_SIZE = 10_000;
+
+    // share of the query trigrams a person must have to be a match,
+    // below 1 to tolerate small typos
+    private static final double MIN_MATCH = 0.6;
+
+    private static final Set<String> INDEXED_PROPERTIES = Set.of("firstName", "lastName", "email", "phone");
+
+    private final SamplePersonRepository repository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trigrams index = new Trigrams();
+    // changes while a rebuild reads the database, applied to the new
+    // index when it replaces the current one, null when not rebuilding
+    private List<Change> changesDuringRebuild;
+
+    /**
+     * A put (person) or a remove (no person).
+     */
+    private record Change(Long id, SamplePerson person) {
+    }
+
+    public PersonSearchIndex(SamplePersonRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * (Re)builds the index from the database, reading it in batches ordered
+     * by id. The current index keeps serving searches and saves until the
+     * new one replaces it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Trigrams rebuilt = new Trigrams();
+        try {
+            Sort byId = Sort.by("id");
+            KeysetPosition position = null;
+            List<SamplePerson> batch;
+            do {
+                batch = repository.findRows(null, INDEXED_PROPERTIES, position, 0, byId, BATCH_SIZE);
+                batch.forEach(rebuilt::put);
+                if (!batch.isEmpty()) {
+                    position = KeysetPosition.of(batch.get(batch.size() - 1), byId);
+                }
+            } while (batch.size() == BATCH_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(rebuilt::apply);
+            changesDuringRebuild = null;
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Indexed {} persons for search in {} ms", rebuilt.trigramsById.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Adds or replaces the person in the index.
+     */
+    public void put(SamplePerson person) {
+        apply(new Change(person.getId(), person));
+    }
+
+    public void remove(Long id) {
+        apply(new Change(id, null));
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            index.apply(change);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the persons best matching the given text.
+     *
+     * @param text the text typed by the user
+     * @param limit the maximum number of results
+     * @return the ids of the matches, best first
+     */
+    public List<Long> search(String text, int limit) {
+        Set<String> queryTrigrams = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() < 3) {
+                addTrigrams(queryTrigrams, "  " + word);
+            } else {
+                addTrigrams(queryTrigrams, word);
+            }
+        }
+        if (queryTrigrams.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String trigram : queryTrigrams) {
+                Postings ids = index.postings.get(trigram);
+                if (ids != null) {
+                    for (int i = 0; i < ids.size; i++) {
+                        scores.merge(ids.ids[i], 1, Integer::sum);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int minScore = (int) Math.ceil(queryTrigrams.size() * MIN_MATCH);
+        return scores.entrySet().stream()
+                .filter(e -> e.getValue() >= minScore)
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.trigramsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<String> words(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : value.toLowerCase(Locale.ROOT).split("\\s+")) {
+            String normalized = word.replaceAll("[^\\p{L}\\p{N}]", "");
+            if (!normalized.isEmpty()) {
+                words.add(normalized);
+            }
+        }
+        return words;
+    }
+
+    private static void addTrigrams(Set<String> trigrams, String value) {
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + 3));
+        }
+    }
+
+    /**
+     * The postings and the trigrams of each person, not thread safe.
+     */
+    private static class Trigrams {
+
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<Long, String[]> trigramsById = new HashMap<>();
+
+        void apply(Change change) {
+            if (change.person() == null) {
+                remove(change.id());
+            } else {
+                put(change.person());
+            }
+        }
+
+        void put(SamplePerson person) {
+            remove(person.getId());
+            Set<String> trigrams = new LinkedHashSet<>();
+            for (String value : Arrays.asList(person.getFirstName(), person.getLastName(), person.getEmail())) {
+                for (String word : words(value)) {
+                    addTrigrams(trigrams, "  " + word);
+                }
+            }
+            if (person.getPhone() != null) {
+                String digits = person.getPhone().replaceAll("\\D", "");
+                if (!digits.isEmpty()) {
+                    addTrigrams(trigrams, "  " + digits);
+                }
+            }
+
+            String[] canonical = new String[trigrams.size()];
+            int i = 0;
+            for (String trigram : trigrams) {
+                // reuse the key instances to avoid a copy of each trigram per person
+                Postings ids = postings.computeIfAbsent(trigram, Postings::new);
+                ids.add(person.getId());
+                canonical[i++] = ids.trigram;
+            }
+            trigramsById.put(person.getId(), canonical);
+        }
+
+        void remove(Long id) {
+            String[] trigrams = trigramsById.remove(id);
+            if (trigrams == null) {
+                return;
+            }
+            for (String trigram : trigrams) {
+                Postings ids = postings.get(trigram);
+                ids.remove(id);
+                if (ids.size == 0) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * The ids of the persons having a trigram, in a growable primitive array
+     * to keep the index small with millions of persons. Sorted, so an id is
+     * found with a binary search.
+     */
+    private static class Postings {
+
+        private final String trigram;
+        private long[] ids = new long[4];
+        private int size;
+
+        Postings(String trigram) {
+            this.trigram = trigram;
+        }
+
+        void add(long id) {
+            // ids mostly arrive in ascending order, then this appends
+            int index = size == 0 || ids[size - 1] < id ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            index = -(index + 1);
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        void remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+    }
+}
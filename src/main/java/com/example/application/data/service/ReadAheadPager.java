@@ -0,0 +1,160 @@
+package com.example.application.data.service;
+
+import com.example.application.data.entity.SamplePerson;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Reads pages ahead of the user: after each fetch, guesses the scroll
+ * direction from the previous fetch and loads the next pages in that
+ * direction in the background. Prefetched pages are kept in a small LRU
+ * buffer, capped to {@link #MAX_BUFFERED_ROWS} rows and expiring after
+ * {@link #MAX_AGE_MILLIS}, so fast scrolling is served from memory.
+ * <p>
+ * Wraps a {@link KeysetPager}, one instance per data provider. Call
+ * {@link #clear()} when the data is known to have changed.
+ */
+public class ReadAheadPager {
+
+    static final int PAGES_AHEAD = 2;
+    private static final int MAX_BUFFERED_ROWS = 1000;
+    private static final long MAX_AGE_MILLIS = 10_000;
+
+    private record PageKey(long offset, int limit, Sort sort, long generation, long epoch) {
+    }
+
+    private record BufferedPage(List<SamplePerson> rows, long fetchedAt) {
+    }
+
+    private final KeysetPager pager;
+    private final Executor executor;
+    private final Counter hits;
+    private final Counter misses;
+
+    // access ordered for LRU eviction
+    private final LinkedHashMap<PageKey, BufferedPage> buffer = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<PageKey> inFlight = new HashSet<>();
+    private int bufferedRows;
+    private long lastOffset = -1;
+    // incremented by clear(), pages read before are dropped
+    private long epoch;
+
+    ReadAheadPager(KeysetPager pager, Executor executor, MeterRegistry meterRegistry) {
+        this.pager = pager;
+        this.executor = executor;
+        hits = Counter.builder("grid.prefetch").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("grid.prefetch").tag("result", "miss").register(meterRegistry);
+    }
+
+    public KeysetPager getPager() {
+        return pager;
+    }
+
+    public Stream<SamplePerson> fetch(Pageable pageable) {
+        long offset = pageable.getOffset();
+        int limit = pageable.getPageSize();
+        PageKey key = new PageKey(offset, limit, pageable.getSort(), pager.getGeneration(), epoch());
+
+        List<SamplePerson> rows = take(key);
+        if (rows != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            rows = pager.fetch(pageable).toList();
+        }
+
+        int direction;
+        synchronized (this) {
+            direction = lastOffset < 0 || offset >= lastOffset ? 1 : -1;
+            lastOffset = offset;
+        }
+        for (int i = 1; i <= PAGES_AHEAD; i++) {
+            long next = offset + (long) direction * i * limit;
+            if (next >= 0) {
+                prefetch(new PageKey(next, limit, key.sort(), key.generation(), key.epoch()));
+            }
+        }
+        return rows.stream();
+    }
+
+    /**
+     * Drops all buffered pages, including those still being read.
+     */
+    public synchronized void clear() {
+        buffer.clear();
+        bufferedRows = 0;
+        epoch++;
+    }
+
+    private synchronized long epoch() {
+        return epoch;
+    }
+
+    private synchronized List<SamplePerson> take(PageKey key) {
+        BufferedPage page = buffer.remove(key);
+        if (page == null) {
+            return null;
+        }
+        bufferedRows -= page.rows().size();
+        if (System.currentTimeMillis() - page.fetchedAt() > MAX_AGE_MILLIS) {
+            return null;
+        }
+        return page.rows();
+    }
+
+    private void prefetch(PageKey key) {
+        synchronized (this) {
+            if (buffer.containsKey(key) || !inFlight.add(key)) {
+                return;
+            }
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    List<SamplePerson> rows = pager.fetch(
+                            PageRequest.of((int) (key.offset() / key.limit()), key.limit(), key.sort())).toList();
+                    store(key, rows);
+                } finally {
+                    synchronized (this) {
+                        inFlight.remove(key);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // too busy to read ahead, the page is fetched when needed
+            synchronized (this) {
+                inFlight.remove(key);
+            }
+        }
+    }
+
+    private synchronized void store(PageKey key, List<SamplePerson> rows) {
+        if (key.epoch() != epoch || key.generation() != pager.getGeneration() || rows.isEmpty()) {
+            // cleared, or filter or columns changed meanwhile
+            return;
+        }
+        BufferedPage previous = buffer.put(key, new BufferedPage(rows, System.currentTimeMillis()));
+        if (previous != null) {
+            bufferedRows -= previous.rows().size();
+        }
+        bufferedRows += rows.size();
+        Iterator<Map.Entry<PageKey, BufferedPage>> eldest = buffer.entrySet().iterator();
+        while (bufferedRows > MAX_BUFFERED_ROWS && eldest.hasNext()) {
+            bufferedRows -= eldest.next().getValue().rows().size();
+            eldest.remove();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.application.data.service;
+
+import com.example.application.data.entity.SamplePerson;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per column filter values for listing persons. Text filters match the
+ * beginning of the value, so that the query can use the column indexes
+ * created by the db migrations. Null or empty values don't filter.
+ */
+public class SamplePersonFilter {
+
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String occupation;
+    private String role;
+    private LocalDate dateOfBirthFrom;
+    private LocalDate dateOfBirthTo;
+    private Boolean important;
+
+    public String getFirstName() {
+        return firstName;
+    }
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    public String getLastName() {
+        return lastName;
+    }
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    public String getEmail() {
+        return email;
+    }
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    public String getOccupation() {
+        return occupation;
+    }
+    public void setOccupation(String occupation) {
+        this.occupation = occupation;
+    }
+    public String getRole() {
+        return role;
+    }
+    public void setRole(String role) {
+        this.role = role;
+    }
+    public LocalDate getDateOfBirthFrom() {
+        return dateOfBirthFrom;
+    }
+    public void setDateOfBirthFrom(LocalDate dateOfBirthFrom) {
+        this.dateOfBirthFrom = dateOfBirthFrom;
+    }
+    public LocalDate getDateOfBirthTo() {
+        return dateOfBirthTo;
+    }
+    public void setDateOfBirthTo(LocalDate dateOfBirthTo) {
+        this.dateOfBirthTo = dateOfBirthTo;
+    }
+    public Boolean getImportant() {
+        return important;
+    }
+    public void setImportant(Boolean important) {
+        this.important = important;
+    }
+
+    /**
+     * @return the specification matching the current filter values, or null
+     *         if nothing is filtered
+     */
+    public Specification<SamplePerson> toSpecification() {
+        if (isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addStartsWith(predicates, cb, root, "firstName", firstName);
+            addStartsWith(predicates, cb, root, "lastName", lastName);
+            addStartsWith(predicates, cb, root, "email", email);
+            addStartsWith(predicates, cb, root, "occupation", occupation);
+            addStartsWith(predicates, cb, root, "role", role);
+            if (dateOfBirthFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dateOfBirth"), dateOfBirthFrom));
+            }
+            if (dateOfBirthTo != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dateOfBirth"), dateOfBirthTo));
+            }
+            if (important != null) {
+                predicates.add(cb.equal(root.get("important"), important));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public boolean isEmpty() {
+        return isBlank(firstName) && isBlank(lastName) && isBlank(email)
+                && isBlank(occupation) && isBlank(role)
+                && dateOfBirthFrom == null && dateOfBirthTo == null
+                && important == null;
+    }
+
+    private static void addStartsWith(List<Predicate> predicates, CriteriaBuilder cb,
+            Root<SamplePerson> root, String property, String value) {
+        if (!isBlank(value)) {
+            String escaped = value.trim()
+                    .replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_");
+            predicates.add(cb.like(root.get(property), escaped + "%", '\\'));
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -5,14 +5,34 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 
 public interface SamplePersonRepository
         extends
             JpaRepository<SamplePerson, Long>,
-            JpaSpecificationExecutor<SamplePerson> {
+            JpaSpecificationExecutor<SamplePerson>,
+            SamplePersonRepositoryCustom {
 
     List<SamplePerson> findAllBy(Pageable pageable);
+
+    // The bulk updates bump the version like a save would, so that
+    // a concurrent edit of one of the persons fails on save
+
+    @Modifying(clearAutomatically = true)
+    @Query("update SamplePerson p set p.important = :important, p.version = p.version + 1 where p.id in :ids")
+    int updateImportant(@Param("ids") Collection<Long> ids, @Param("important") boolean important);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update SamplePerson p set p.role = :role, p.version = p.version + 1 where p.id in :ids")
+    int updateRole(@Param("ids") Collection<Long> ids, @Param("role") String role);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from SamplePerson p where p.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
 }
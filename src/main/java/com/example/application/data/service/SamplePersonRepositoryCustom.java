@@ -0,0 +1,43 @@
+package com.example.application.data.service;
+
+import com.example.application.data.entity.SamplePerson;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface SamplePersonRepositoryCustom {
+
+    /**
+     * Lists rows in the given order, either starting right after the given
+     * position or by skipping the given number of rows.
+     * <p>
+     * If properties are given, only those (plus id, version and the sorted
+     * properties) are loaded. The returned objects are then not managed and
+     * must not be saved, load the full entity by id for editing.
+     *
+     * @param filter the filter to apply, or null
+     * @param properties the properties to load, or null to load entities
+     * @param position the sort key of the last row already fetched, or null
+     *            to use the offset
+     * @param offset the number of rows to skip, used only without position
+     * @param sort the order, must end with a unique property (id)
+     * @param limit the maximum number of rows to return
+     */
+    List<SamplePerson> findRows(Specification<SamplePerson> filter, Set<String> properties,
+            KeysetPosition position, long offset, Sort sort, int limit);
+
+    /**
+     * Streams all matching rows with a forward only cursor, reading the given
+     * number of rows per round trip. Each row is detached before it is
+     * returned, so the persistence context doesn't grow. Must be called, and
+     * the stream consumed and closed, within a transaction.
+     *
+     * @param filter the filter to apply, or null
+     * @param sort the order
+     * @param fetchSize the JDBC fetch size
+     */
+    Stream<SamplePerson> streamAll(Specification<SamplePerson> filter, Sort sort, int fetchSize);
+}
@@ -0,0 +1,196 @@
+package com.example.application.data.service;
+
+import com.example.application.data.entity.SamplePerson;
+import com.example.application.data.entity.SamplePersonAccessors;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.CacheRetrieveMode;
+import javax.persistence.CacheStoreMode;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+class SamplePersonRepositoryImpl implements SamplePersonRepositoryCustom {
+
+    // the other columns are nullable in the schema
+    private static final Set<String> NOT_NULL_PROPERTIES = Set.of("id", "version", "important");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SamplePerson> findRows(Specification<SamplePerson> filter, Set<String> properties,
+            KeysetPosition position, long offset, Sort sort, int limit) {
+        List<SamplePerson> rows = findRows(filter, properties, position, offset, sort, limit, false);
+        if (rows.size() < limit && position != null && hasNullsAfter(sort, position)) {
+            // the seek only reads the values before the nulls, which a
+            // descending sort puts last, continue with them
+            rows = new ArrayList<>(rows);
+            rows.addAll(findRows(filter, properties, null, 0, sort, limit - rows.size(), true));
+        }
+        return rows;
+    }
+
+    private List<SamplePerson> findRows(Specification<SamplePerson> filter, Set<String> properties,
+            KeysetPosition position, long offset, Sort sort, int limit, boolean onlyNulls) {
+        if (properties == null) {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<SamplePerson> query = cb.createQuery(SamplePerson.class);
+            Root<SamplePerson> root = query.from(SamplePerson.class);
+            restrict(query, root, cb, filter, sort, position, onlyNulls);
+            return page(entityManager.createQuery(query), position, offset, limit)
+                    .getResultList();
+        }
+
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        selected.add("version");
+        selected.addAll(properties);
+        sort.forEach(order -> selected.add(order.getProperty()));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<SamplePerson> root = query.from(SamplePerson.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String property : selected) {
+            selections.add(root.get(property).alias(property));
+        }
+        query.multiselect(selections);
+        restrict(query, root, cb, filter, sort, position, onlyNulls);
+        List<Tuple> tuples = page(entityManager.createQuery(query), position, offset, limit)
+                .getResultList();
+
+        List<SamplePerson> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            SamplePerson row = new SamplePerson();
+            for (String property : selected) {
+                SamplePersonAccessors.get(property).setObject(row, tuple.get(property));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Override
+    public Stream<SamplePerson> streamAll(Specification<SamplePerson> filter, Sort sort, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SamplePerson> query = cb.createQuery(SamplePerson.class);
+        Root<SamplePerson> root = query.from(SamplePerson.class);
+        restrict(query, root, cb, filter, sort, null, false);
+        return entityManager.createQuery(query)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                // don't flood the second-level cache with every row
+                .setHint("javax.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS)
+                .setHint("javax.persistence.cache.storeMode", CacheStoreMode.BYPASS)
+                .getResultStream()
+                .peek(entityManager::detach);
+    }
+
+    /**
+     * @param onlyNulls restricts to the rows where the first sort column is
+     *            null
+     */
+    private static void restrict(CriteriaQuery<?> query, Root<SamplePerson> root, CriteriaBuilder cb,
+            Specification<SamplePerson> filter, Sort sort, KeysetPosition position, boolean onlyNulls) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            Predicate predicate = filter.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (position != null) {
+            predicates.add(seek(cb, root, sort, position));
+        }
+        if (onlyNulls) {
+            predicates.add(cb.isNull(root.get(sort.iterator().next().getProperty())));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+    }
+
+    private static <T> TypedQuery<T> page(TypedQuery<T> query, KeysetPosition position, long offset, int limit) {
+        return query
+                .setFirstResult(position == null ? (int) offset : 0)
+                .setMaxResults(limit);
+    }
+
+    /**
+     * Builds (a >= x) and ((a > x) or (a = x and b > y) or ...) for the sort
+     * columns, flipping the comparisons for descending columns. The first
+     * condition is redundant, but lets the database range scan the index of
+     * the sort.
+     * <p>
+     * The database sorts nulls first in ascending and last in descending
+     * order. A null position value is compared with IS NULL / IS NOT NULL.
+     * The nulls after a non-null value of the first column of a descending
+     * sort are not included here, to keep the range scan, but read by
+     * {@link #findRows} with a second query.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate seek(CriteriaBuilder cb, Root<SamplePerson> root, Sort sort, KeysetPosition position) {
+        List<Sort.Order> orders = sort.toList();
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalSoFar = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            Expression<Comparable> path = root.get(order.getProperty());
+            Comparable value = (Comparable) position.values().get(i);
+            Predicate beyond;
+            if (value == null) {
+                // nothing follows the nulls of a descending column
+                beyond = order.isAscending() ? cb.isNotNull(path) : null;
+            } else if (order.isAscending()) {
+                beyond = cb.greaterThan(path, value);
+            } else if (i > 0 && !NOT_NULL_PROPERTIES.contains(order.getProperty())) {
+                beyond = cb.or(cb.lessThan(path, value), cb.isNull(path));
+            } else {
+                beyond = cb.lessThan(path, value);
+            }
+            if (beyond != null) {
+                List<Predicate> alternative = new ArrayList<>(equalSoFar);
+                alternative.add(beyond);
+                alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+            }
+            equalSoFar.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+        }
+        Predicate seek = cb.or(alternatives.toArray(Predicate[]::new));
+
+        Sort.Order first = orders.get(0);
+        Expression<Comparable> path = root.get(first.getProperty());
+        Comparable value = (Comparable) position.values().get(0);
+        if (value == null) {
+            return first.isAscending() ? seek : cb.and(cb.isNull(path), seek);
+        }
+        return cb.and(first.isAscending() ? cb.greaterThanOrEqualTo(path, value)
+                : cb.lessThanOrEqualTo(path, value), seek);
+    }
+
+    /**
+     * @return true if the rows after the position continue with the nulls of
+     *         the first sort column, which the seek predicate leaves out
+     */
+    private static boolean hasNullsAfter(Sort sort, KeysetPosition position) {
+        Sort.Order first = sort.iterator().next();
+        return first.isDescending() && !NOT_NULL_PROPERTIES.contains(first.getProperty())
+                && position.values().get(0) != null;
+    }
+}
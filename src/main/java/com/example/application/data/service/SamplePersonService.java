@@ -1,47 +1,371 @@
 package com.example.application.data.service;
 
 import com.example.application.data.entity.SamplePerson;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Reads run in read-only transactions: Hibernate skips the dirty checking
+ * snapshots and the flush, and with the read-replica profile the queries go
+ * to the replica (see ReadReplicaConfiguration). Saves of single persons
+ * are left to the transactions of the repository.
+ */
 @Service
 public class SamplePersonService {
 
+    // Exact COUNT(*) is slow on large tables, share one count between
+    // all sessions and refresh it only every now and then
+    private static final Duration COUNT_TTL = Duration.ofSeconds(30);
+
+    // ids per bulk statement, keeps the IN list within
+    // the bind parameter limits of common databases
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final SamplePersonRepository repository;
 
-    public SamplePersonService(SamplePersonRepository repository) {
+    // only with grid.search=true
+    private final Optional<PersonSearchIndex> searchIndex;
+
+    // only with grid.read-model=true
+    private final Optional<PersonReadModel> readModel;
+
+    private final EntityCacheStatistics entityCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer getTimer;
+    private final Timer updateTimer;
+    private final Counter optimisticLockFailures;
+
+    // Shared by the read-ahead pagers of all sessions, prefetches
+    // are dropped when it is busy
+    private final ThreadPoolExecutor prefetchExecutor = new ThreadPoolExecutor(2, 4,
+            30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(100), r -> {
+                Thread thread = new Thread(r, "grid-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+
+    private final AtomicReference<CachedCount> cachedCount = new AtomicReference<>();
+
+    private record CachedCount(long value, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+
+    public SamplePersonService(SamplePersonRepository repository, Optional<PersonSearchIndex> searchIndex,
+            Optional<PersonReadModel> readModel, EntityCacheStatistics entityCache,
+            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
         this.repository = repository;
+        this.searchIndex = searchIndex;
+        this.readModel = readModel;
+        this.entityCache = entityCache;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        getTimer = Timer.builder("person.get")
+                .description("Loading a person by id")
+                .register(meterRegistry);
+        updateTimer = Timer.builder("person.update")
+                .description("Saving a person")
+                .register(meterRegistry);
+        optimisticLockFailures = Counter.builder("person.update.conflicts")
+                .description("Saves rejected because somebody else modified the person")
+                .register(meterRegistry);
     }
 
+    @Transactional(readOnly = true)
     public Optional<SamplePerson> get(Long id) {
-        return repository.findById(id);
+        return getTimer.record(() -> repository.findById(id));
     }
 
     public SamplePerson update(SamplePerson entity) {
-        return repository.save(entity);
+        boolean isNew = entity.getId() == null;
+        SamplePerson saved;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            saved = repository.save(entity);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            optimisticLockFailures.increment();
+            // the cached copy may be the stale one, make
+            // sure the next get() reads the current row
+            if (!isNew) {
+                entityCache.evict(entity.getId());
+            }
+            throw e;
+        } finally {
+            sample.stop(updateTimer);
+        }
+        if (isNew) {
+            adjustCount(1);
+        }
+        searchIndex.ifPresent(index -> index.put(saved));
+        readModel.ifPresent(model -> model.put(saved));
+        eventPublisher.publishEvent(new PersonChangedEvent(saved.getId(),
+                isNew ? PersonChangedEvent.Type.CREATED : PersonChangedEvent.Type.UPDATED));
+        return saved;
     }
 
     public void delete(Long id) {
         repository.deleteById(id);
+        adjustCount(-1);
+        searchIndex.ifPresent(index -> index.remove(id));
+        readModel.ifPresent(model -> model.remove(id));
+        eventPublisher.publishEvent(new PersonChangedEvent(id, PersonChangedEvent.Type.DELETED));
     }
     
+    /**
+     * Sets the important flag of the given persons. Runs as set-based updates
+     * in a single transaction instead of loading and saving each person.
+     *
+     * @return the number of persons updated
+     */
+    @Transactional
+    public int setImportant(Collection<Long> ids, boolean important) {
+        int updated = bulk("important", ids, chunk -> repository.updateImportant(chunk, important));
+        afterCommit(() -> {
+            readModel.ifPresent(model -> model.setImportant(ids, important));
+            eventPublisher.publishEvent(PersonChangedEvent.bulk());
+        });
+        return updated;
+    }
+
+    /**
+     * Sets the role of the given persons, like {@link #setImportant}.
+     *
+     * @return the number of persons updated
+     */
+    @Transactional
+    public int setRole(Collection<Long> ids, String role) {
+        int updated = bulk("role", ids, chunk -> repository.updateRole(chunk, role));
+        afterCommit(() -> {
+            readModel.ifPresent(model -> model.setRole(ids, role));
+            eventPublisher.publishEvent(PersonChangedEvent.bulk());
+        });
+        return updated;
+    }
+
+    /**
+     * Deletes the given persons with set-based deletes in a single
+     * transaction.
+     *
+     * @return the number of persons deleted
+     */
+    @Transactional
+    public int deleteAll(Collection<Long> ids) {
+        int deleted = bulk("delete", ids, repository::deleteAllByIds);
+        afterCommit(() -> {
+            adjustCount(-deleted);
+            searchIndex.ifPresent(index -> ids.forEach(index::remove));
+            readModel.ifPresent(model -> ids.forEach(model::remove));
+            eventPublisher.publishEvent(PersonChangedEvent.bulk());
+        });
+        return deleted;
+    }
+
+    /**
+     * Runs the action when the current transaction has committed, so the
+     * in-memory state and other users don't see changes that are rolled
+     * back. Runs it right away outside transactions.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private int bulk(String action, Collection<Long> ids, ToIntFunction<List<Long>> statement) {
+        Timer timer = Timer.builder("person.bulk")
+                .description("Bulk actions on selected persons")
+                .tag("action", action)
+                .register(meterRegistry);
+        return timer.record(() -> {
+            List<Long> all = new ArrayList<>(ids);
+            int rows = 0;
+            for (int from = 0; from < all.size(); from += BULK_CHUNK_SIZE) {
+                rows += statement.applyAsInt(all.subList(from, Math.min(from + BULK_CHUNK_SIZE, all.size())));
+            }
+            return rows;
+        });
+    }
+
+    @Transactional(readOnly = true)
     public Stream<SamplePerson> stream(Pageable pageable) {
         return repository.findAllBy(pageable).stream();
     }
 
+    /**
+     * Creates a pager that seeks from the last row of the previous page
+     * instead of using offsets, use one per data provider.
+     */
+    public KeysetPager keysetPager() {
+        return new KeysetPager(repository, meterRegistry);
+    }
+
+    /**
+     * Wraps the pager with one that fetches the next pages in the background,
+     * in the direction the user is scrolling.
+     */
+    public ReadAheadPager readAheadPager(KeysetPager pager) {
+        return new ReadAheadPager(pager, prefetchExecutor, meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    public boolean isSearchEnabled() {
+        return searchIndex.isPresent();
+    }
+
+    /**
+     * Finds persons by any part of their name, email or phone number using
+     * the in-memory {@link PersonSearchIndex}. Finds nothing if the index
+     * is disabled, see {@link #isSearchEnabled()}.
+     *
+     * @param text the text typed by the user
+     * @param filter additional filter, or null
+     * @param limit the maximum number of results
+     * @return the matching persons, best match first
+     */
+    @Transactional(readOnly = true)
+    public List<SamplePerson> search(String text, Specification<SamplePerson> filter, int limit) {
+        List<Long> ids = searchIndex.map(index -> index.search(text, limit)).orElse(List.of());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Specification<SamplePerson> byIds = (root, query, cb) -> root.get("id").in(ids);
+        Map<Long, SamplePerson> found = repository.findAll(filter == null ? byIds : byIds.and(filter))
+                .stream()
+                .collect(Collectors.toMap(SamplePerson::getId, Function.identity()));
+        // keep the ranking of the index
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Lists persons from the in-memory {@link PersonReadModel}, if it is
+     * enabled, loaded and supports the sort.
+     *
+     * @param filter the filter, or null
+     * @return the page, or empty if the database has to be queried instead
+     */
+    public Optional<List<SamplePerson>> listFromReadModel(SamplePersonFilter filter, Pageable pageable) {
+        return readModel
+                .filter(model -> model.isReady() && model.supports(pageable.getSort()))
+                .map(model -> {
+                    long start = System.nanoTime();
+                    List<SamplePerson> rows = model.list(filter, pageable);
+                    Timer.builder("grid.fetch")
+                            .description("Grid page fetches")
+                            .tag("sort", KeysetPager.withIdTieBreaker(pageable.getSort()).stream()
+                                    .map(order -> order.getProperty() + ":" + order.getDirection())
+                                    .collect(Collectors.joining(",")))
+                            .tag("paging", "read-model")
+                            .tag("filtered", Boolean.toString(filter != null && !filter.isEmpty()))
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    return rows;
+                });
+    }
+
+    /**
+     * Counts persons in the in-memory {@link PersonReadModel}, if it is
+     * enabled and loaded.
+     *
+     * @param filter the filter, or null to count all persons
+     * @return the count, or empty if the database has to be queried instead
+     */
+    public Optional<Integer> countFromReadModel(SamplePersonFilter filter) {
+        return readModel
+                .filter(PersonReadModel::isReady)
+                .map(model -> model.count(filter));
+    }
+
+    @Transactional(readOnly = true)
     public Page<SamplePerson> list(Pageable pageable, Specification<SamplePerson> filter) {
         return repository.findAll(filter, pageable);
     }
 
+    /**
+     * Returns the number of persons. The value is cached for all callers and
+     * refreshed from the database when it gets older than {@link #COUNT_TTL}.
+     * Saves and deletes through this service keep it up to date in between.
+     */
+    @Transactional(readOnly = true)
     public int count() {
-        return (int) repository.count();
+        CachedCount current = cachedCount.get();
+        if (current == null || current.isExpired()) {
+            current = new CachedCount(repository.count(), System.currentTimeMillis() + COUNT_TTL.toMillis());
+            cachedCount.set(current);
+        }
+        return (int) current.value();
+    }
+
+    /**
+     * Returns the number of persons matching the given filter. Only the
+     * unfiltered count is cached.
+     *
+     * @param filter the filter, or null to count all persons
+     */
+    @Transactional(readOnly = true)
+    public int count(Specification<SamplePerson> filter) {
+        if (filter == null) {
+            return count();
+        }
+        return (int) repository.count(filter);
+    }
+
+    /**
+     * Drops the cached count, e.g. after the table has been modified
+     * by other means than this service.
+     */
+    public void invalidateCount() {
+        cachedCount.set(null);
+    }
+
+    private void adjustCount(long delta) {
+        cachedCount.updateAndGet(c -> c == null ? null : new CachedCount(c.value() + delta, c.expiresAt()));
     }
 
 }
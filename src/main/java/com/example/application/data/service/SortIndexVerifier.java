@@ -0,0 +1,86 @@
+package com.example.application.data.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks at startup that the database reads every sort of the master grid
+ * in index order, i.e. that the migrations have an index for each sortable
+ * column and direction. A missing index would make every page of the grid
+ * sort the whole table. Enable with {@code schema.verify-sort-indexes=true}.
+ * <p>
+ * The check asks H2 for the query plans of the queries {@link KeysetPager}
+ * runs: the first page (ORDER BY the column and id as a tie-breaker) and a
+ * following page, which seeks from the previous row. The plans are H2
+ * specific, on other databases the check is skipped.
+ */
+@Component
+@ConditionalOnProperty("schema.verify-sort-indexes")
+public class SortIndexVerifier implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SortIndexVerifier.class);
+
+    // The columns behind the sortable properties of the master grid
+    private static final List<String> SORTABLE_COLUMNS = List.of("first_name", "last_name", "email", "phone",
+            "date_of_birth", "occupation", "role", "important");
+
+    // H2 marks a plan that reads an index in the requested order like this
+    private static final String INDEX_SORTED = "/* index sorted */";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SortIndexVerifier(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"H2".equals(database)) {
+            logger.info("Not verifying the sort indexes on {}, the check reads H2 query plans", database);
+            return;
+        }
+        List<String> unindexed = new ArrayList<>();
+        for (String column : SORTABLE_COLUMNS) {
+            for (String direction : List.of("asc", "desc")) {
+                String orderBy = " order by " + column + " " + direction + ", id " + direction + " limit 50";
+                verify("select id from sample_person" + orderBy, List.of(), unindexed);
+
+                // a following page seeks from a row, like SamplePersonRepositoryImpl
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                        "select " + column + " v, id from sample_person where " + column + " is not null limit 1");
+                if (!rows.isEmpty()) {
+                    Object value = rows.get(0).get("V");
+                    Object id = rows.get(0).get("ID");
+                    String beyond = direction.equals("asc") ? ">" : "<";
+                    verify("select id from sample_person where " + column + " " + beyond + "= ? and ("
+                            + column + " " + beyond + " ? or (" + column + " = ? and id " + beyond + " ?))"
+                            + orderBy, List.of(value, value, value, id), unindexed);
+                }
+            }
+        }
+        if (!unindexed.isEmpty()) {
+            throw new IllegalStateException("Grid queries without an index: " + unindexed);
+        }
+        logger.info("All {} grid sorts use an index", SORTABLE_COLUMNS.size() * 2);
+    }
+
+    private void verify(String query, List<Object> parameters, List<String> unindexed) {
+        String plan = jdbcTemplate.queryForObject("explain " + query, String.class, parameters.toArray());
+        if (plan == null || !plan.contains(INDEX_SORTED)) {
+            logger.warn("No index for {}, plan: {}", query, plan);
+            unindexed.add(query);
+        }
+    }
+}
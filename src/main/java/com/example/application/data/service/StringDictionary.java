@@ -0,0 +1,170 @@
+package com.example.application.data.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Distinct strings, each stored once as UTF-8 in off-heap memory and
+ * referred to by an int code. The heap only holds a few ints per string,
+ * so millions of values don't add to the garbage collector's work.
+ * <p>
+ * Strings are never removed, unused ones are dropped by building a new
+ * dictionary. Not thread safe.
+ */
+class StringDictionary {
+
+    static final int NULL = -1;
+
+    private ByteBuffer bytes = ByteBuffer.allocateDirect(1 << 16);
+    private int used;
+
+    // per code
+    private int[] offsets = new int[1024];
+    private int[] lengths = new int[1024];
+    private int[] hashes = new int[1024];
+    private int size;
+
+    // open addressing, code + 1 in each slot, 0 if free
+    private int[] table = new int[2048];
+
+    /**
+     * @return the code of the string, added to the dictionary if needed
+     */
+    int encode(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        int hash = Arrays.hashCode(utf8);
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int code = table[slot] - 1;
+            if (code == NULL) {
+                code = add(utf8, hash);
+                table[slot] = code + 1;
+                if (size * 2 > table.length) {
+                    rehash();
+                }
+                return code;
+            }
+            if (hashes[code] == hash && equals(code, utf8)) {
+                return code;
+            }
+        }
+    }
+
+    String decode(int code) {
+        if (code == NULL) {
+            return null;
+        }
+        byte[] utf8 = new byte[lengths[code]];
+        bytes.get(offsets[code], utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares the strings of two codes like {@link String#compareTo}, null
+     * first.
+     */
+    int compare(int code, int other) {
+        if (code == other) {
+            return 0;
+        } else if (code == NULL) {
+            return -1;
+        } else if (other == NULL) {
+            return 1;
+        }
+        return decode(code).compareTo(decode(other));
+    }
+
+    /**
+     * @return the codes of the strings starting with the prefix, compared
+     *         without copying the strings to the heap
+     */
+    BitSet startingWith(String prefix) {
+        byte[] utf8 = prefix.getBytes(StandardCharsets.UTF_8);
+        BitSet codes = new BitSet(size);
+        for (int code = 0; code < size; code++) {
+            if (lengths[code] >= utf8.length && matches(offsets[code], utf8)) {
+                codes.set(code);
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * @return for each code, the position of its string in sorted order
+     */
+    int[] ranks() {
+        String[] values = new String[size];
+        Integer[] codes = new Integer[size];
+        for (int code = 0; code < size; code++) {
+            values[code] = decode(code);
+            codes[code] = code;
+        }
+        Arrays.sort(codes, (a, b) -> values[a].compareTo(values[b]));
+        int[] ranks = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            ranks[codes[rank]] = rank;
+        }
+        return ranks;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long offHeapBytes() {
+        return bytes.capacity();
+    }
+
+    private int add(byte[] utf8, int hash) {
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        if (used + utf8.length > bytes.capacity()) {
+            ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(bytes.capacity() * 2, used + utf8.length));
+            grown.put(0, bytes, 0, used);
+            bytes = grown;
+        }
+        bytes.put(used, utf8);
+        offsets[size] = used;
+        lengths[size] = utf8.length;
+        hashes[size] = hash;
+        used += utf8.length;
+        return size++;
+    }
+
+    private boolean equals(int code, byte[] utf8) {
+        return lengths[code] == utf8.length && matches(offsets[code], utf8);
+    }
+
+    private boolean matches(int offset, byte[] utf8) {
+        for (int i = 0; i < utf8.length; i++) {
+            if (bytes.get(offset + i) != utf8[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        int mask = table.length - 1;
+        for (int code = 0; code < size; code++) {
+            int slot = spread(hashes[code]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = code + 1;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
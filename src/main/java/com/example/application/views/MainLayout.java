@@ -2,8 +2,7 @@ package com.example.application.views;
 
 
 import com.example.application.components.appnav.AppNav;
-import com.example.application.components.appnav.AppNavItem;
-import com.example.application.views.masterdetail.MasterDetailView;
+import com.example.application.components.appnav.AppNavDefinition;
 import com.vaadin.flow.component.applayout.AppLayout;
 import com.vaadin.flow.component.applayout.DrawerToggle;
 import com.vaadin.flow.component.html.Footer;
@@ -21,7 +20,10 @@ public class MainLayout extends AppLayout {
 
     private H2 viewTitle;
 
-    public MainLayout() {
+    private final Navigation navigation;
+
+    public MainLayout(Navigation navigation) {
+        this.navigation = navigation;
         setPrimarySection(Section.DRAWER);
         addDrawerContent();
         addHeaderContent();
@@ -52,7 +54,9 @@ public class MainLayout extends AppLayout {
         // For documentation, visit https://github.com/vaadin/vcf-nav#readme
         AppNav nav = new AppNav();
 
-        nav.addItem(new AppNavItem("Master-Detail", MasterDetailView.class, "la la-columns"));
+        navigation.getItems().stream()
+                .map(AppNavDefinition::createItem)
+                .forEach(nav::addItem);
 
         return nav;
     }
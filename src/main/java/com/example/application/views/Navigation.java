@@ -0,0 +1,29 @@
+package com.example.application.views;
+
+import com.example.application.components.appnav.AppNavDefinition;
+import com.example.application.views.masterdetail.MasterDetailView;
+import com.vaadin.flow.router.RouteConfiguration;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The menu of the application. It is built once and shared by all sessions,
+ * each session only creates the components for the expanded parts of it.
+ */
+@Component
+public class Navigation {
+
+    private volatile List<AppNavDefinition> items;
+
+    public List<AppNavDefinition> getItems() {
+        List<AppNavDefinition> current = items;
+        if (current == null) {
+            // built on first use, the paths need the router
+            current = List.of(new AppNavDefinition("Master-Detail",
+                    RouteConfiguration.forApplicationScope().getUrl(MasterDetailView.class), "la la-columns"));
+            items = current;
+        }
+        return current;
+    }
+}
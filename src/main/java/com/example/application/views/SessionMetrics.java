@@ -0,0 +1,146 @@
+package com.example.application.views;
+
+import com.vaadin.flow.server.HandlerHelper;
+import com.vaadin.flow.server.HandlerHelper.RequestType;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import com.vaadin.flow.spring.SpringServlet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.atmosphere.cpr.Action;
+import org.atmosphere.cpr.ApplicationConfig;
+import org.atmosphere.cpr.AtmosphereInterceptorAdapter;
+import org.atmosphere.cpr.AtmosphereRequest;
+import org.atmosphere.cpr.AtmosphereRequestImpl;
+import org.atmosphere.cpr.AtmosphereResource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes the number of open Vaadin sessions and UIs, and the rate and
+ * size of the UIDL requests (user interaction round trips) as metrics.
+ * <p>
+ * With push, the browser sends its messages over the websocket instead of
+ * UIDL requests. Those don't pass the Vaadin request handlers and are
+ * counted by {@link PushMessageCounter}, with the transport tag "push"
+ * instead of "http".
+ */
+@Component
+public class SessionMetrics implements VaadinServiceInitListener {
+
+    private static final String REQUESTS = "vaadin.uidl.requests";
+    private static final String REQUEST_SIZE = "vaadin.uidl.request.size";
+
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final AtomicInteger uis = new AtomicInteger();
+    private final Counter uidlRequests;
+    private final DistributionSummary uidlRequestBytes;
+
+    public SessionMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("vaadin.sessions", sessions, AtomicInteger::get)
+                .description("Open Vaadin sessions")
+                .register(meterRegistry);
+        Gauge.builder("vaadin.uis", uis, AtomicInteger::get)
+                .description("Open UIs (browser tabs)")
+                .register(meterRegistry);
+        uidlRequests = requests("http").register(meterRegistry);
+        uidlRequestBytes = requestSize("http").register(meterRegistry);
+    }
+
+    private static Counter.Builder requests(String transport) {
+        return Counter.builder(REQUESTS)
+                .description("Round trips caused by user interaction")
+                .tag("transport", transport);
+    }
+
+    private static DistributionSummary.Builder requestSize(String transport) {
+        return DistributionSummary.builder(REQUEST_SIZE)
+                .description("Size of the round trip requests")
+                .baseUnit("bytes")
+                .tag("transport", transport);
+    }
+
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        event.getSource().addSessionInitListener(e -> sessions.incrementAndGet());
+        event.getSource().addSessionDestroyListener(e -> sessions.decrementAndGet());
+        event.getSource().addUIInitListener(e -> {
+            uis.incrementAndGet();
+            e.getUI().addDetachListener(detach -> uis.decrementAndGet());
+        });
+        event.addRequestHandler((session, request, response) -> {
+            if (HandlerHelper.isRequestType(request, RequestType.UIDL)) {
+                uidlRequests.increment();
+                if (request.getContentLength() > 0) {
+                    uidlRequestBytes.record(request.getContentLength());
+                }
+            }
+            // only counts, the actual handlers come after this
+            return false;
+        });
+    }
+
+    /**
+     * Adds {@link PushMessageCounter} to the Atmosphere framework of the
+     * Vaadin servlet, which reads its interceptors from the servlet's init
+     * parameters.
+     */
+    @Bean
+    static BeanPostProcessor pushMessageCounterRegistration() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof ServletRegistrationBean<?> registration
+                        && registration.getServlet() instanceof SpringServlet) {
+                    registration.addInitParameter(ApplicationConfig.ATMOSPHERE_INTERCEPTORS,
+                            PushMessageCounter.class.getName());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Counts the messages browsers send over the push connection. Created
+     * by Atmosphere, so the meters are registered in the global registry,
+     * which includes the one of the application.
+     */
+    public static class PushMessageCounter extends AtmosphereInterceptorAdapter {
+
+        private final Counter messages = requests("push").register(Metrics.globalRegistry);
+        private final DistributionSummary messageBytes = requestSize("push").register(Metrics.globalRegistry);
+
+        @Override
+        public Action inspect(AtmosphereResource resource) {
+            AtmosphereRequest request = resource.getRequest();
+            // GET opens the connection, each message is a POST
+            if ("POST".equalsIgnoreCase(request.getMethod())) {
+                messages.increment();
+                long size = size(request);
+                if (size > 0) {
+                    messageBytes.record(size);
+                }
+            }
+            return Action.CONTINUE;
+        }
+
+        private static long size(AtmosphereRequest request) {
+            AtmosphereRequestImpl.Body body = request.body();
+            if (body.hasString()) {
+                return body.asString().getBytes(StandardCharsets.UTF_8).length;
+            } else if (body.hasBytes()) {
+                return body.byteLength();
+            }
+            // long polling, the message is in the request body
+            return request.getContentLength();
+        }
+    }
+}
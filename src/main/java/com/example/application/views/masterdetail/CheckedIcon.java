@@ -5,8 +5,11 @@ import com.vaadin.flow.theme.lumo.LumoUtility;
 
 public class CheckedIcon extends MyIcon {
 
+    static final VaadinIcon ICON = VaadinIcon.CHECK;
+    static final String COLOR = LumoUtility.TextColor.PRIMARY;
+
     public CheckedIcon() {
-        super(VaadinIcon.CHECK);
-        addClassNames(LumoUtility.TextColor.PRIMARY);
+        super(ICON);
+        addClassNames(COLOR);
     }
 }
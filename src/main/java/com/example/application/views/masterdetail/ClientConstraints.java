@@ -0,0 +1,130 @@
+package com.example.application.views.masterdetail;
+
+import com.vaadin.flow.component.HasValidation;
+import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.textfield.TextField;
+
+import javax.validation.MessageInterpolator;
+import javax.validation.Validation;
+import javax.validation.ValidationException;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Future;
+import javax.validation.constraints.FutureOrPresent;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Past;
+import javax.validation.constraints.PastOrPresent;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Configures the client side validation of fields from the bean validation
+ * constraints of the bound property, so the browser shows errors while the
+ * user types instead of asking the server on every pause in typing.
+ * Constraints without a client side counterpart are only validated on the
+ * server.
+ */
+final class ClientConstraints {
+
+    private static final ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+
+    // close enough to what @Email accepts, the server has the final say
+    private static final String EMAIL_PATTERN = "[^@\\s]+@[^@\\s]+";
+
+    private ClientConstraints() {
+    }
+
+    static void apply(Class<?> beanType, String property, HasValue<?, ?> field, Locale locale) {
+        PropertyDescriptor descriptor = VALIDATOR_FACTORY.getValidator()
+                .getConstraintsForClass(beanType)
+                .getConstraintsForProperty(property);
+        if (descriptor == null) {
+            return;
+        }
+        for (ConstraintDescriptor<?> constraint : descriptor.getConstraintDescriptors()) {
+            if (apply(constraint.getAnnotation(), field) && field instanceof HasValidation validated) {
+                validated.setErrorMessage(message(constraint, locale));
+            }
+        }
+    }
+
+    /**
+     * @return true if the constraint is validated in the browser
+     */
+    private static boolean apply(Annotation annotation, HasValue<?, ?> field) {
+        if (annotation instanceof NotNull || annotation instanceof NotEmpty || annotation instanceof NotBlank) {
+            if (field instanceof TextField textField) {
+                textField.setRequired(true);
+                return true;
+            } else if (field instanceof DatePicker datePicker) {
+                datePicker.setRequired(true);
+                return true;
+            }
+            field.setRequiredIndicatorVisible(true);
+        } else if (field instanceof TextField textField) {
+            if (annotation instanceof Email email) {
+                textField.setPattern(".*".equals(email.regexp()) ? EMAIL_PATTERN : email.regexp());
+                return true;
+            } else if (annotation instanceof Pattern pattern) {
+                textField.setPattern(pattern.regexp());
+                return true;
+            } else if (annotation instanceof Size size) {
+                if (size.min() > 0) {
+                    textField.setMinLength(size.min());
+                }
+                if (size.max() < Integer.MAX_VALUE) {
+                    textField.setMaxLength(size.max());
+                }
+                return true;
+            }
+        } else if (field instanceof DatePicker datePicker) {
+            LocalDate today = LocalDate.now();
+            if (annotation instanceof Past) {
+                datePicker.setMax(today.minusDays(1));
+                return true;
+            } else if (annotation instanceof PastOrPresent) {
+                datePicker.setMax(today);
+                return true;
+            } else if (annotation instanceof Future) {
+                datePicker.setMin(today.plusDays(1));
+                return true;
+            } else if (annotation instanceof FutureOrPresent) {
+                datePicker.setMin(today);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String message(ConstraintDescriptor<?> constraint, Locale locale) {
+        MessageInterpolator.Context context = new MessageInterpolator.Context() {
+            @Override
+            public ConstraintDescriptor<?> getConstraintDescriptor() {
+                return constraint;
+            }
+
+            @Override
+            public Object getValidatedValue() {
+                return null;
+            }
+
+            @Override
+            public <T> T unwrap(Class<T> type) {
+                if (type.isInstance(this)) {
+                    return type.cast(this);
+                }
+                throw new ValidationException("Type " + type.getName() + " not supported for unwrapping");
+            }
+        };
+        return VALIDATOR_FACTORY.getMessageInterpolator()
+                .interpolate(constraint.getMessageTemplate(), context, locale);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.application.views.masterdetail;
+
+import com.example.application.data.entity.SamplePerson;
+import com.vaadin.flow.data.renderer.LitRenderer;
+
+/**
+ * Renders the important flag like {@link CheckedIcon} and
+ * {@link UncheckedIcon}, but on the client side. Only a boolean is sent per
+ * row, instead of having an Icon component in the state tree for each
+ * rendered row.
+ */
+class ImportantRenderer {
+
+    private static final String TEMPLATE = """
+            <vaadin-icon
+                icon="${item.important ? '%s' : '%s'}"
+                class="%s ${item.important ? '%s' : '%s'}">
+            </vaadin-icon>"""
+            .formatted(
+                    MyIcon.iconName(CheckedIcon.ICON), MyIcon.iconName(UncheckedIcon.ICON),
+                    MyIcon.SIZE,
+                    CheckedIcon.COLOR, UncheckedIcon.COLOR);
+
+    private ImportantRenderer() {
+    }
+
+    static LitRenderer<SamplePerson> create() {
+        return LitRenderer.<SamplePerson>of(TEMPLATE)
+                .withProperty("important", SamplePerson::isImportant);
+    }
+}
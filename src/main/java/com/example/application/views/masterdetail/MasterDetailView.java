@@ -1,30 +1,53 @@
 package com.example.application.views.masterdetail;
 
+import com.example.application.accessors.PropertyAccessor;
 import com.example.application.data.entity.SamplePerson;
+import com.example.application.data.entity.SamplePersonAccessors;
+import com.example.application.data.service.KeysetPager;
+import com.example.application.data.service.PersonExportService;
+import com.example.application.data.service.PersonImportService;
+import com.example.application.data.service.ReadAheadPager;
+import com.example.application.data.service.SamplePersonFilter;
 import com.example.application.data.service.SamplePersonService;
 import com.example.application.views.MainLayout;
+import com.example.application.views.masterdetail.PersonChangeBroadcaster.PersonChanges;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.Key;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.checkbox.Checkbox;
 import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.grid.HeaderRow;
 import com.vaadin.flow.component.grid.contextmenu.GridContextMenu;
 import com.vaadin.flow.component.grid.contextmenu.GridMenuItem;
+import com.vaadin.flow.component.grid.dataview.GridLazyDataView;
+import com.vaadin.flow.component.html.Anchor;
 import com.vaadin.flow.component.html.H6;
+import com.vaadin.flow.component.html.Paragraph;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.Notification.Position;
 import com.vaadin.flow.component.notification.NotificationVariant;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.component.shared.Tooltip;
 import com.vaadin.flow.component.splitlayout.SplitLayout;
 import com.vaadin.flow.component.textfield.TextField;
-import com.vaadin.flow.data.binder.BeanValidationBinder;
-import com.vaadin.flow.data.value.HasValueChangeMode;
+import com.vaadin.flow.data.binder.Binder;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.validator.BeanValidator;
+import com.vaadin.flow.data.provider.SortDirection;
 import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.router.BeforeEvent;
 import com.vaadin.flow.router.HasUrlParameter;
 import com.vaadin.flow.router.OptionalParameter;
@@ -32,18 +55,35 @@ import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteAlias;
 import com.vaadin.flow.router.RouteConfiguration;
+import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @PageTitle("Master-Detail")
 @Route(value = "master-detail", layout = MainLayout.class)
 @RouteAlias(value = "", layout = MainLayout.class)
 public class MasterDetailView extends SplitLayout implements HasUrlParameter<Long> {
 
-    private final Grid<SamplePerson> grid = new Grid<>(SamplePerson.class, false);
+    private final Grid<SamplePerson> grid = new Grid<>();
 
     private TextField firstName = new TextField("First Name");
     private TextField lastName = new TextField("Last Name");
@@ -57,25 +97,78 @@ public class MasterDetailView extends SplitLayout implements HasUrlParameter<Lon
     private final Button cancel = new Button("Cancel");
     private final Button save = new Button("Save");
 
-    private final BeanValidationBinder<SamplePerson> binder;
+    private final VerticalLayout editorLayout = new VerticalLayout();
+
+    // Bulk actions on the rows selected in the multi-select mode
+    private final Checkbox multiSelect = new Checkbox("Select multiple");
+
+    // Keyboard navigation: the row with the focus is opened in the
+    // form once the user stops moving around with the arrow keys
+    private static final int NAVIGATION_IDLE_MILLIS = 300;
+    private final Checkbox followFocus = new Checkbox("Open with arrow keys");
+    private DomListenerRegistration focusListener;
+    private final HorizontalLayout bulkActions = new HorizontalLayout();
+    private final Span selectedCount = new Span();
+    private final Button markImportant = new Button("Mark important");
+    private final Button markNotImportant = new Button("Mark not important");
+    private final TextField bulkRole = new TextField();
+    private final Button setRole = new Button("Set role");
+    private final Button delete = new Button("Delete...");
+
+    private final Binder<SamplePerson> binder = new Binder<>();
 
     private final SamplePersonService service;
 
+    private final PersonImportService importService;
+
+    private final PersonExportService exportService;
+
+    private final PersonChangeBroadcaster changeBroadcaster;
+
+    private Registration changeRegistration;
+
+    // above this, refreshing everything is cheaper than item by item
+    private static final int MAX_ITEM_REFRESHES = 20;
+
+    private KeysetPager pager;
+
+    // optional, fetches the next pages in the background
+    private ReadAheadPager readAhead;
+
+    private final boolean prefetch;
+
+    private final SamplePersonFilter filter = new SamplePersonFilter();
+
+    private final TextField searchField = new TextField();
+
+    private static final int MAX_SEARCH_RESULTS = 500;
+
+    // Use the (cached) count only as an initial estimate for
+    // the scrollbar, instead of calling it for each new data provider
+    private final boolean estimatedCount;
+
     // binder.hasChanges() methods does not
     // work in a meaningful way with buffered
     // binding, track changes with this field
     private boolean formHasChanges;
 
-    public MasterDetailView(SamplePersonService samplePersonService) {
+    public MasterDetailView(SamplePersonService samplePersonService, PersonImportService importService,
+            PersonExportService exportService, PersonChangeBroadcaster changeBroadcaster,
+            @Value("${grid.estimated-count:false}") boolean estimatedCount,
+            @Value("${grid.prefetch:false}") boolean prefetch) {
         this.service = samplePersonService;
+        this.importService = importService;
+        this.exportService = exportService;
+        this.changeBroadcaster = changeBroadcaster;
+        this.estimatedCount = estimatedCount;
+        this.prefetch = prefetch;
         buildView();
 
         // Connect Grid to the backend
         listPersonsInGrid();
 
         // Configure form binding
-        binder = new BeanValidationBinder<>(SamplePerson.class);
-        binder.bindInstanceFields(this);
+        bindFields();
 
         configureEagerFormValidation();
 
@@ -84,31 +177,197 @@ public class MasterDetailView extends SplitLayout implements HasUrlParameter<Lon
     }
 
     private void addListeners() {
-        grid.asSingleSelect().addValueChangeListener(event -> {
-            var selectedPerson = event.getValue();
-            if(selectedPerson == null) {
-                prepareFormForNewPerson();
-            } else {
-                editPerson(selectedPerson);
-            }
-        });
+        addSingleSelectListener();
 
         cancel.addClickListener(e -> {
+            // nothing changed in the db, the grid is up to date
+            grid.asSingleSelect().clear();
             prepareFormForNewPerson();
-            listPersonsInGrid();
         });
 
         save.addClickListener(e -> {
+            // the browser may have been bypassed, check everything once
+            if (!binder.validate().isOk()) {
+                return;
+            }
             try {
-                service.update(binder.getBean());
+                boolean isNew = binder.getBean().getId() == null;
+                SamplePerson saved = service.update(binder.getBean());
+                clearReadAhead();
+                if (isNew) {
+                    // may change the row count and position of rows
+                    grid.getDataProvider().refreshAll();
+                } else {
+                    // only the edited row, keeps the scroll position
+                    // and doesn't refetch other rows
+                    grid.getDataProvider().refreshItem(saved);
+                }
+                grid.asSingleSelect().clear();
                 prepareFormForNewPerson();
-                listPersonsInGrid();
                 Notification.show("Data updated");
             } catch (ObjectOptimisticLockingFailureException exception) {
                 showErrorMessage("Error updating the data. Somebody else has updated the record while you were making changes.");
             }
         });
-        save.addClickShortcut(Key.ENTER);
+        // only from the form, Enter in the filter and search fields must
+        // not save. The form fields send their value on change, which Enter
+        // in a field commits
+        save.addClickShortcut(Key.ENTER).listenOn(editorLayout);
+
+        multiSelect.addValueChangeListener(e -> setMultiSelect(e.getValue()));
+        followFocus.addValueChangeListener(e -> setFollowFocus(e.getValue()));
+        markImportant.addClickListener(e ->
+                runBulkAction("Marked %d persons important", ids -> service.setImportant(ids, true)));
+        markNotImportant.addClickListener(e ->
+                runBulkAction("Marked %d persons not important", ids -> service.setImportant(ids, false)));
+        setRole.addClickListener(e ->
+                runBulkAction("Set the role of %d persons", ids -> service.setRole(ids, bulkRole.getValue())));
+        delete.addClickListener(e -> confirmDelete());
+    }
+
+    private void addSingleSelectListener() {
+        grid.asSingleSelect().addValueChangeListener(event -> {
+            var selectedPerson = event.getValue();
+            if(selectedPerson == null) {
+                prepareFormForNewPerson();
+            } else {
+                // grid rows only contain the visible columns
+                service.get(selectedPerson.getId()).ifPresentOrElse(
+                        this::editPerson,
+                        this::prepareFormForNewPerson);
+            }
+        });
+    }
+
+    /**
+     * Switches between editing a single person and the bulk actions on
+     * multiple selected persons.
+     */
+    private void setMultiSelect(boolean multi) {
+        if (multi) {
+            grid.setSelectionMode(Grid.SelectionMode.MULTI);
+            grid.addSelectionListener(e -> updateBulkActions());
+            prepareFormForNewPerson();
+        } else {
+            // the listeners are removed with the old selection model
+            grid.setSelectionMode(Grid.SelectionMode.SINGLE);
+            addSingleSelectListener();
+        }
+        followFocus.setEnabled(!multi);
+        if (multi) {
+            followFocus.clear();
+        }
+        editorLayout.setVisible(!multi);
+        bulkActions.setVisible(multi);
+        updateBulkActions();
+    }
+
+    /**
+     * Selects the row with the keyboard focus. The focus events are debounced
+     * in the browser, so the rows passed by while holding an arrow key don't
+     * cause round trips, and the person is loaded by id only for the row
+     * where the user stops.
+     */
+    private void setFollowFocus(boolean follow) {
+        if (follow) {
+            focusListener = grid.getElement().addEventListener("grid-cell-focus", e -> {
+                if ("body".equals(e.getEventData().getString("event.detail.section"))) {
+                    SamplePerson row = grid.getDataCommunicator().getKeyMapper()
+                            .get(e.getEventData().getString("event.detail.itemKey"));
+                    if (row != null && !row.equals(grid.asSingleSelect().getValue())) {
+                        grid.select(row);
+                    }
+                }
+            });
+            focusListener.addEventData("event.detail.section")
+                    .addEventData("event.detail.itemKey")
+                    .debounce(NAVIGATION_IDLE_MILLIS);
+        } else if (focusListener != null) {
+            focusListener.remove();
+            focusListener = null;
+        }
+    }
+
+    private void updateBulkActions() {
+        int count = grid.getSelectedItems().size();
+        selectedCount.setText(count + " selected");
+        markImportant.setEnabled(count > 0);
+        markNotImportant.setEnabled(count > 0);
+        setRole.setEnabled(count > 0);
+        delete.setEnabled(count > 0);
+    }
+
+    /**
+     * Runs an action on all selected persons with a single service call,
+     * instead of updating the persons one by one.
+     */
+    private void runBulkAction(String message, ToIntFunction<List<Long>> action) {
+        List<Long> ids = grid.getSelectedItems().stream()
+                .map(SamplePerson::getId)
+                .toList();
+        int count = action.applyAsInt(ids);
+        clearReadAhead();
+        grid.deselectAll();
+        if (grid.getDataProvider().isInMemory()) {
+            // search results, run the search again
+            applyFilter();
+        } else {
+            grid.getDataProvider().refreshAll();
+        }
+        Notification.show(message.formatted(count));
+    }
+
+    private void confirmDelete() {
+        Dialog dialog = new Dialog();
+        dialog.setHeaderTitle("Delete %d persons?".formatted(grid.getSelectedItems().size()));
+        dialog.add(new Paragraph("The persons are deleted permanently."));
+        Button confirm = new Button("Delete", e -> {
+            dialog.close();
+            runBulkAction("Deleted %d persons", service::deleteAll);
+        });
+        confirm.addThemeVariants(ButtonVariant.LUMO_PRIMARY, ButtonVariant.LUMO_ERROR);
+        dialog.getFooter().add(new Button("Cancel", e -> dialog.close()), confirm);
+        dialog.open();
+    }
+
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        changeRegistration = changeBroadcaster.register(attachEvent.getUI(), this::showChanges);
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        super.onDetach(detachEvent);
+        changeRegistration.remove();
+    }
+
+    /**
+     * Shows changes made by other users.
+     */
+    private void showChanges(PersonChanges changes) {
+        clearReadAhead();
+        if (changes.rowsAddedOrRemoved() || changes.updatedIds().size() > MAX_ITEM_REFRESHES) {
+            grid.getDataProvider().refreshAll();
+        } else {
+            changes.updatedIds().forEach(id ->
+                    service.get(id).ifPresent(grid.getDataProvider()::refreshItem));
+        }
+
+        Long editedId = binder.getBean().getId();
+        if (editedId != null && (changes.updatedIds().contains(editedId) || changes.rowsAddedOrRemoved())) {
+            Optional<SamplePerson> current = service.get(editedId);
+            if (current.isEmpty()) {
+                showErrorMessage("Somebody else has deleted the person you are editing.");
+                prepareFormForNewPerson();
+            } else if (current.get().getVersion() != binder.getBean().getVersion()) {
+                if (formHasChanges) {
+                    showErrorMessage("Somebody else has updated the person you are editing, your changes can't be saved.");
+                } else {
+                    editPerson(current.get());
+                }
+            }
+        }
     }
 
     private void showErrorMessage(String errorMessage) {
@@ -130,23 +389,66 @@ public class MasterDetailView extends SplitLayout implements HasUrlParameter<Lon
         save.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
 
 
-        var editorLayout = new VerticalLayout();
         editorLayout.setWidth("400px");
         editorLayout.setPadding(false);
         editorLayout.setSpacing(false);
         editorLayout.addAndExpand(formLayout);
         editorLayout.add(buttonLayout);
 
+        searchField.setPlaceholder("Search by name, email or phone");
+        searchField.setPrefixComponent(VaadinIcon.SEARCH.create());
+        searchField.setClearButtonVisible(true);
+        searchField.setWidthFull();
+        searchField.setValueChangeMode(ValueChangeMode.LAZY);
+        searchField.addValueChangeListener(e -> applyFilter());
+        searchField.setVisible(service.isSearchEnabled());
+
+        var importButton = new Button("Import...", e ->
+                new PersonImportDialog(importService, this::listPersonsInGrid).open());
+        importButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+        // Export streams the rows from the db straight to the response
+        var export = new Anchor(new StreamResource("persons.csv", this::exportCsv), "Export CSV");
+        export.getElement().setAttribute("download", true);
+        var toolbar = new HorizontalLayout(searchField, followFocus, multiSelect, importButton, export);
+        toolbar.setAlignItems(FlexComponent.Alignment.BASELINE);
+        toolbar.setWidthFull();
+        toolbar.setFlexGrow(1, searchField);
+
+        bulkRole.setPlaceholder("Role");
+        markImportant.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+        markNotImportant.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+        setRole.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+        delete.addThemeVariants(ButtonVariant.LUMO_TERTIARY, ButtonVariant.LUMO_ERROR);
+        bulkActions.add(selectedCount, markImportant, markNotImportant, bulkRole, setRole, delete);
+        bulkActions.setAlignItems(FlexComponent.Alignment.BASELINE);
+        bulkActions.setVisible(false);
+
+        var gridLayout = new VerticalLayout(toolbar, bulkActions, grid);
+        gridLayout.setSizeFull();
+        gridLayout.setSpacing(false);
+
         addToSecondary(editorLayout);
-        addToPrimary(grid);
+        addToPrimary(gridLayout);
 
         // Configure Grid
-        grid.setColumns("firstName","lastName" ,"email", "phone", "dateOfBirth", "occupation", "role");
-        grid.addComponentColumn(p ->
-                        p.isImportant() ? new CheckedIcon() : new UncheckedIcon())
+        // Generated accessors instead of bean introspection,
+        // reading the cell values doesn't use reflection
+        Stream.<PropertyAccessor<SamplePerson, ?>>of(
+                SamplePersonAccessors.FIRST_NAME, SamplePersonAccessors.LAST_NAME, SamplePersonAccessors.EMAIL,
+                SamplePersonAccessors.PHONE, SamplePersonAccessors.DATE_OF_BIRTH, SamplePersonAccessors.OCCUPATION,
+                SamplePersonAccessors.ROLE)
+                .forEach(property -> grid.addColumn(property::get)
+                        .setKey(property.name())
+                        .setHeader(property.caption())
+                        .setSortProperty(property.name())
+                        .setComparator(property.comparator()));
+        // Lit template instead of a component column: no
+        // server side Icon component per rendered row
+        grid.addColumn(ImportantRenderer.create())
                 .setHeader("Important")
                 .setKey("important")
-                .setSortable(true);
+                .setSortProperty("important")
+                .setComparator(SamplePersonAccessors.IMPORTANT.comparator());
         grid.addThemeVariants(GridVariant.LUMO_NO_BORDER);
         grid.getColumns().forEach(c -> {
             c.setAutoWidth(true);
@@ -161,6 +463,8 @@ public class MasterDetailView extends SplitLayout implements HasUrlParameter<Lon
                 .forEach(key -> grid.getColumnByKey(key).setVisible(true));
         grid.setSizeFull();
 
+        createFilterRow();
+
         // Use Grid's built in context menu to show/hide cols
         GridContextMenu<SamplePerson> columnSelector = grid.addContextMenu();
         columnSelector.add(new H6("Available columns:"));
@@ -171,6 +475,12 @@ public class MasterDetailView extends SplitLayout implements HasUrlParameter<Lon
             item.addMenuItemClickListener(e -> {
                 col.setVisible(!col.isVisible());
                 item.setChecked(col.isVisible());
+                pager.setProperties(getVisibleColumnKeys());
+                if (col.isVisible()) {
+                    // newly shown column needs data, hidden
+                    // ones are just not loaded anymore
+                    grid.getDataProvider().refreshAll();
+                }
             });
         });
         // add a tooltip for people to find the functionality
@@ -178,6 +488,80 @@ public class MasterDetailView extends SplitLayout implements HasUrlParameter<Lon
                 .withText("Context click to edit visible columns");
     }
 
+    /**
+     * Adds a header row with filter fields, the filters
+     * are executed in the database.
+     */
+    private void createFilterRow() {
+        HeaderRow filterRow = grid.appendHeaderRow();
+        for (String key : Arrays.asList("firstName", "lastName", "email", "occupation", "role")) {
+            TextField field = new TextField();
+            field.setPlaceholder("Starts with...");
+            field.setClearButtonVisible(true);
+            field.setWidthFull();
+            field.setValueChangeMode(ValueChangeMode.LAZY);
+            field.addValueChangeListener(e -> {
+                filterSetter(key).accept(filter, e.getValue());
+                applyFilter();
+            });
+            filterRow.getCell(grid.getColumnByKey(key)).setComponent(field);
+        }
+
+        DatePicker from = new DatePicker();
+        from.setPlaceholder("From");
+        from.setClearButtonVisible(true);
+        from.addValueChangeListener(e -> {
+            filter.setDateOfBirthFrom(e.getValue());
+            applyFilter();
+        });
+        DatePicker to = new DatePicker();
+        to.setPlaceholder("To");
+        to.setClearButtonVisible(true);
+        to.addValueChangeListener(e -> {
+            filter.setDateOfBirthTo(e.getValue());
+            applyFilter();
+        });
+        var dateRange = new HorizontalLayout(from, to);
+        dateRange.setSpacing(false);
+        filterRow.getCell(grid.getColumnByKey("dateOfBirth")).setComponent(dateRange);
+
+        Select<Boolean> importantFilter = new Select<>();
+        importantFilter.setItems(true, false);
+        importantFilter.setEmptySelectionAllowed(true);
+        importantFilter.setEmptySelectionCaption("Any");
+        importantFilter.setItemLabelGenerator(value -> value == null ? "Any" : value ? "Yes" : "No");
+        importantFilter.addValueChangeListener(e -> {
+            filter.setImportant(e.getValue());
+            applyFilter();
+        });
+        filterRow.getCell(grid.getColumnByKey("important")).setComponent(importantFilter);
+    }
+
+    private static BiConsumer<SamplePersonFilter, String> filterSetter(String key) {
+        return switch (key) {
+            case "firstName" -> SamplePersonFilter::setFirstName;
+            case "lastName" -> SamplePersonFilter::setLastName;
+            case "email" -> SamplePersonFilter::setEmail;
+            case "occupation" -> SamplePersonFilter::setOccupation;
+            case "role" -> SamplePersonFilter::setRole;
+            default -> throw new IllegalArgumentException("No text filter for " + key);
+        };
+    }
+
+    private void applyFilter() {
+        if (!searchField.isEmpty()) {
+            // search results are a short ranked list, no need for lazy loading
+            grid.setItems(service.search(searchField.getValue(), filter.toSpecification(), MAX_SEARCH_RESULTS))
+                    .setIdentifierProvider(SamplePerson::getId);
+        } else if (grid.getDataProvider().isInMemory()) {
+            // search was just cleared
+            listPersonsInGrid();
+        } else {
+            pager.setFilter(filter.toSpecification());
+            grid.getDataProvider().refreshAll();
+        }
+    }
+
     /**
      * Updates deep linkin parameters.
      */
@@ -196,7 +580,93 @@ public class MasterDetailView extends SplitLayout implements HasUrlParameter<Lon
     }
 
     private void listPersonsInGrid() {
-        grid.setItems(query -> service.stream(VaadinSpringDataHelpers.toSpringPageRequest(query)));
+        // Keyset paging keeps deep scrolling fast on large tables
+        pager = service.keysetPager();
+        // Only load the columns that are visible, the full entity
+        // is loaded by id when a row is selected for editing
+        pager.setProperties(getVisibleColumnKeys());
+        pager.setFilter(filter.toSpecification());
+        readAhead = prefetch ? service.readAheadPager(pager) : null;
+        GridLazyDataView<SamplePerson> dataView;
+        if (estimatedCount) {
+            dataView = grid.setItems(this::fetchPage);
+            dataView.setItemCountEstimate(Math.max(service.count(), 1));
+        } else {
+            dataView = grid.setItems(this::fetchPage, query -> service.countFromReadModel(filter)
+                    .orElseGet(() -> service.count(pager.getFilter())));
+        }
+        // rows are projections, identify them by id so refreshItem
+        // can replace a row with the saved entity
+        dataView.setIdentifierProvider(SamplePerson::getId);
+    }
+
+    private void exportCsv(OutputStream out, VaadinSession session) throws IOException {
+        // read the current sort and filter from the UI state,
+        // but do the actual work without holding the session lock
+        Specification<SamplePerson> exportFilter;
+        Sort sort;
+        session.lock();
+        try {
+            exportFilter = filter.toSpecification();
+            sort = KeysetPager.withIdTieBreaker(Sort.by(grid.getSortOrder().stream()
+                    .flatMap(order -> order.getSorted().getSortOrder(order.getDirection()))
+                    .map(order -> order.getDirection() == SortDirection.ASCENDING
+                            ? Sort.Order.asc(order.getSorted())
+                            : Sort.Order.desc(order.getSorted()))
+                    .toList()));
+        } finally {
+            session.unlock();
+        }
+        var writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        exportService.exportCsv(exportFilter, sort, writer);
+    }
+
+    private Stream<SamplePerson> fetchPage(Query<SamplePerson, Void> query) {
+        Pageable pageable = VaadinSpringDataHelpers.toSpringPageRequest(query);
+        Optional<List<SamplePerson>> fromReadModel = service.listFromReadModel(filter, pageable);
+        if (fromReadModel.isPresent()) {
+            return fromReadModel.get().stream();
+        }
+        return readAhead != null ? readAhead.fetch(pageable) : pager.fetch(pageable);
+    }
+
+    /**
+     * Drops pages read ahead, when the rows are known to have changed.
+     */
+    private void clearReadAhead() {
+        if (readAhead != null) {
+            readAhead.clear();
+        }
+    }
+
+    private Set<String> getVisibleColumnKeys() {
+        return grid.getColumns().stream()
+                .filter(Grid.Column::isVisible)
+                .map(Grid.Column::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    private void bindFields() {
+        bind(firstName, SamplePersonAccessors.FIRST_NAME);
+        bind(lastName, SamplePersonAccessors.LAST_NAME);
+        bind(email, SamplePersonAccessors.EMAIL);
+        bind(phone, SamplePersonAccessors.PHONE);
+        bind(dateOfBirth, SamplePersonAccessors.DATE_OF_BIRTH);
+        bind(occupation, SamplePersonAccessors.OCCUPATION);
+        bind(role, SamplePersonAccessors.ROLE);
+        bind(important, SamplePersonAccessors.IMPORTANT);
+    }
+
+    /**
+     * Binds a field with the generated accessor of the property. The bean
+     * validation constraints of the property are checked in the browser
+     * where possible, and on the server.
+     */
+    private <V> void bind(HasValue<?, V> field, PropertyAccessor<SamplePerson, V> property) {
+        ClientConstraints.apply(SamplePerson.class, property.name(), field, getLocale());
+        binder.forField(field)
+                .withValidator(new BeanValidator(SamplePerson.class, property.name()))
+                .bind(property::get, property::set);
     }
 
     private void prepareFormForNewPerson() {
@@ -204,30 +674,18 @@ public class MasterDetailView extends SplitLayout implements HasUrlParameter<Lon
     }
 
     private void configureEagerFormValidation() {
-        // Validate fields while users type in
-        // for example when email becomes valid,
-        // the error disappears automatically
-        binder.getFields().forEach(c -> {
-            if (c instanceof HasValueChangeMode) {
-                ((HasValueChangeMode) c).setValueChangeMode(ValueChangeMode.LAZY);
-            }
-        });
-        binder.addStatusChangeListener(e -> {
-            adjustSaveButtonState();
-        });
+        // The browser validates fields while users type in (see
+        // ClientConstraints), so the values are sent to the server only
+        // when a field is changed, not on every pause in typing. Save stays
+        // enabled: the typed value may not have reached the server when
+        // Save is clicked, and the click listener validates the whole form
         binder.addValueChangeListener(e -> {
             if(e.isFromClient()) {
                 formHasChanges = true;
-                adjustSaveButtonState();
             }
         });
     }
 
-    private void adjustSaveButtonState() {
-        // only allow saving if we have valida data
-        save.setEnabled(binder.isValid() && formHasChanges);
-    }
-
     @Override
     public void setParameter(BeforeEvent event, @OptionalParameter Long samplePersonId) {
         /*
@@ -4,10 +4,22 @@ import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 
+import java.util.Locale;
+
 abstract class MyIcon extends Icon {
 
+    static final String SIZE = LumoUtility.IconSize.SMALL;
+
     public MyIcon(VaadinIcon icon) {
         super(icon);
-        addClassNames(LumoUtility.IconSize.SMALL);
+        addClassNames(SIZE);
+    }
+
+    /**
+     * The icon name as used by the vaadin-icon web component,
+     * e.g. "vaadin:check".
+     */
+    static String iconName(VaadinIcon icon) {
+        return "vaadin:" + icon.name().toLowerCase(Locale.ENGLISH).replace('_', '-');
     }
 }
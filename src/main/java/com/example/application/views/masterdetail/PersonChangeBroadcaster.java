@@ -0,0 +1,120 @@
+package com.example.application.views.masterdetail;
+
+import com.example.application.data.service.PersonChangedEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.shared.Registration;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Pushes person changes to the UIs that show persons.
+ * <p>
+ * Changes are collected per UI and delivered at most once per
+ * {@link #DEBOUNCE_MILLIS}, so a burst of saves (or an import) results in a
+ * single access to the UI and a single push, instead of one per change.
+ * The UI that made the change is not notified, it has already updated
+ * itself.
+ */
+@Component
+public class PersonChangeBroadcaster {
+
+    private static final long DEBOUNCE_MILLIS = 500;
+
+    /**
+     * The changes collected for a UI.
+     *
+     * @param updatedIds ids of persons whose values have changed
+     * @param rowsAddedOrRemoved true if persons were created or deleted, so
+     *            the row count and positions may have changed
+     */
+    public record PersonChanges(Set<Long> updatedIds, boolean rowsAddedOrRemoved) {
+    }
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "person-change-broadcaster");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Starts delivering changes to the given UI. The listener is called with
+     * the session locked, through {@link UI#access}.
+     *
+     * @return the registration to remove when the UI is detached
+     */
+    public Registration register(UI ui, Consumer<PersonChanges> listener) {
+        Subscriber subscriber = new Subscriber(ui, listener);
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    @EventListener
+    public void onPersonChanged(PersonChangedEvent event) {
+        // saves happen in request threads, so this is the saving UI (if any)
+        UI origin = UI.getCurrent();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.ui != origin) {
+                subscriber.add(event);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private class Subscriber {
+
+        private final UI ui;
+        private final Consumer<PersonChanges> listener;
+
+        private final Set<Long> updatedIds = new HashSet<>();
+        private boolean rowsAddedOrRemoved;
+        private boolean flushScheduled;
+
+        Subscriber(UI ui, Consumer<PersonChanges> listener) {
+            this.ui = ui;
+            this.listener = listener;
+        }
+
+        synchronized void add(PersonChangedEvent event) {
+            if (event.type() == PersonChangedEvent.Type.UPDATED) {
+                updatedIds.add(event.id());
+            } else {
+                rowsAddedOrRemoved = true;
+            }
+            if (!flushScheduled) {
+                flushScheduled = true;
+                scheduler.schedule(this::flush, DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void flush() {
+            PersonChanges changes;
+            synchronized (this) {
+                changes = new PersonChanges(Set.copyOf(updatedIds), rowsAddedOrRemoved);
+                updatedIds.clear();
+                rowsAddedOrRemoved = false;
+                flushScheduled = false;
+            }
+            try {
+                ui.access(() -> listener.accept(changes));
+            } catch (UIDetachedException e) {
+                subscribers.remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.application.views.masterdetail;
+
+import com.example.application.data.service.ImportProgress;
+import com.example.application.data.service.PersonImportService;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.html.Paragraph;
+import com.vaadin.flow.component.html.Pre;
+import com.vaadin.flow.component.progressbar.ProgressBar;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.component.upload.receivers.FileBuffer;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Uploads a CSV file of persons and imports it in the background,
+ * pushing the progress to the browser.
+ */
+class PersonImportDialog extends Dialog {
+
+    private final PersonImportService importService;
+    private final Runnable onImported;
+
+    private final ProgressBar progressBar = new ProgressBar();
+    private final Paragraph status = new Paragraph();
+    private final Pre errors = new Pre();
+
+    /**
+     * @param importService the service doing the actual work
+     * @param onImported called in the UI thread after a successful import
+     */
+    PersonImportDialog(PersonImportService importService, Runnable onImported) {
+        this.importService = importService;
+        this.onImported = onImported;
+        setHeaderTitle("Import persons");
+        setWidth("500px");
+
+        // large files, don't keep them in memory
+        FileBuffer buffer = new FileBuffer();
+        Upload upload = new Upload(buffer);
+        upload.setAcceptedFileTypes(".csv", "text/csv");
+        upload.addSucceededListener(e -> startImport(buffer));
+
+        progressBar.setIndeterminate(true);
+        progressBar.setVisible(false);
+        errors.setVisible(false);
+
+        add(new Paragraph("CSV with a header line, e.g. firstName,lastName,email,phone,dateOfBirth,occupation,role,important"),
+                upload, progressBar, status, errors);
+        getFooter().add(new Button("Close", e -> close()));
+    }
+
+    private void startImport(FileBuffer buffer) {
+        UI ui = UI.getCurrent();
+        progressBar.setVisible(true);
+        status.setText("Importing...");
+        try {
+            importService.runInBackground(() -> runImport(ui, buffer));
+        } catch (RejectedExecutionException e) {
+            deleteUpload(buffer);
+            progressBar.setVisible(false);
+            status.setText("Too many imports are running, please try again later");
+        }
+    }
+
+    private void runImport(UI ui, FileBuffer buffer) {
+        try (Reader csv = new InputStreamReader(buffer.getInputStream(), StandardCharsets.UTF_8)) {
+            ImportProgress result = importService.importCsv(csv,
+                    progress -> ui.access(() -> showProgress(progress)));
+            ui.access(() -> {
+                showProgress(result);
+                onImported.run();
+            });
+        } catch (IOException | RuntimeException e) {
+            ui.access(() -> status.setText("Import failed: " + e.getMessage()));
+        } finally {
+            deleteUpload(buffer);
+            ui.access(() -> progressBar.setVisible(false));
+        }
+    }
+
+    private static void deleteUpload(FileBuffer buffer) {
+        try {
+            Files.deleteIfExists(buffer.getFileData().getFile().toPath());
+        } catch (IOException e) {
+            // temp file, the OS cleans it eventually
+        }
+    }
+
+    private void showProgress(ImportProgress progress) {
+        status.setText("Read %d rows, imported %d, skipped %d"
+                .formatted(progress.rows(), progress.imported(), progress.failed()));
+        errors.setText(String.join("\n", progress.errors()));
+        errors.setVisible(!progress.errors().isEmpty());
+    }
+}
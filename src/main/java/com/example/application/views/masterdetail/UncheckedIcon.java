@@ -5,8 +5,11 @@ import com.vaadin.flow.theme.lumo.LumoUtility;
 
 public class UncheckedIcon extends MyIcon {
 
+    static final VaadinIcon ICON = VaadinIcon.MINUS;
+    static final String COLOR = LumoUtility.TextColor.DISABLED;
+
     public UncheckedIcon() {
-        super(VaadinIcon.MINUS);
-        addClassNames(LumoUtility.TextColor.DISABLED);
+        super(ICON);
+        addClassNames(COLOR);
     }
 }
@@ -0,0 +1,17 @@
+-- The schema Hibernate used to generate from SamplePerson and AbstractEntity
+
+create sequence idgenerator start with 1000 increment by 50;
+
+create table sample_person (
+    id bigint not null,
+    version integer not null,
+    first_name varchar(255),
+    last_name varchar(255),
+    email varchar(255),
+    phone varchar(255),
+    date_of_birth date,
+    occupation varchar(255),
+    role varchar(255),
+    important boolean not null,
+    primary key (id)
+);
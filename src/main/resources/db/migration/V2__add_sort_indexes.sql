@@ -0,0 +1,22 @@
+-- Every grid column is sortable. The grid sorts by the column and by id as
+-- a tie-breaker in the same direction (see KeysetPager), so one index per
+-- column and direction lets the database read the rows in index order
+-- instead of sorting the whole table. The ascending indexes also serve the
+-- filters of the grid (SamplePersonFilter).
+
+create index idx_person_first_name on sample_person(first_name, id);
+create index idx_person_first_name_desc on sample_person(first_name desc, id desc);
+create index idx_person_last_name on sample_person(last_name, id);
+create index idx_person_last_name_desc on sample_person(last_name desc, id desc);
+create index idx_person_email on sample_person(email, id);
+create index idx_person_email_desc on sample_person(email desc, id desc);
+create index idx_person_phone on sample_person(phone, id);
+create index idx_person_phone_desc on sample_person(phone desc, id desc);
+create index idx_person_date_of_birth on sample_person(date_of_birth, id);
+create index idx_person_date_of_birth_desc on sample_person(date_of_birth desc, id desc);
+create index idx_person_occupation on sample_person(occupation, id);
+create index idx_person_occupation_desc on sample_person(occupation desc, id desc);
+create index idx_person_role on sample_person(role, id);
+create index idx_person_role_desc on sample_person(role desc, id desc);
+create index idx_person_important on sample_person(important, id);
+create index idx_person_important_desc on sample_person(important desc, id desc);